@@ -0,0 +1,58 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.validation.valueextraction.ValueExtractor;
+
+/**
+ * Consumes extracted values without validating them, so that a benchmark measures the extractor alone.
+ */
+final class BlackholeValueReceiver implements ValueExtractor.ValueReceiver {
+
+    private final Blackhole blackhole;
+
+    BlackholeValueReceiver(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void value(String nodeName, Object object) {
+        blackhole.consume(object);
+    }
+
+    @Override
+    public void iterableValue(String nodeName, Object object) {
+        blackhole.consume(object);
+    }
+
+    @Override
+    public void indexedValue(String nodeName, int i, Object object) {
+        blackhole.consume(i);
+        blackhole.consume(object);
+    }
+
+    @Override
+    public void keyedValue(String nodeName, Object key, Object object) {
+        blackhole.consume(key);
+        blackhole.consume(object);
+    }
+}
@@ -0,0 +1,96 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.beanvalidation2.constraints.AllInRange;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares bounds on the elements of a {@code Vector}, which are extracted and validated one by one, to the same
+ * bounds checked by {@code @AllInRange} on the vector itself in a single pass.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkBoundsBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    private int size;
+
+    private Validator validator;
+    private ElementBoundsBean elementBounds;
+    private BulkBoundsBean bulkBounds;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        final Vector<Integer> ids = Vector.range(0, size);
+        elementBounds = new ElementBoundsBean(ids);
+        bulkBounds = new BulkBoundsBean(ids);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ElementBoundsBean>> elementBounds() {
+        return validator.validate(elementBounds);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BulkBoundsBean>> bulkBounds() {
+        return validator.validate(bulkBounds);
+    }
+
+    public static class ElementBoundsBean {
+        private final Vector<@Min(0) @Max(Integer.MAX_VALUE) Integer> ids;
+
+        ElementBoundsBean(Vector<Integer> ids) {
+            this.ids = ids;
+        }
+    }
+
+    public static class BulkBoundsBean {
+        @AllInRange(min = 0, max = Integer.MAX_VALUE)
+        private final Vector<Integer> ids;
+
+        BulkBoundsBean(Vector<Integer> ids) {
+            this.ids = ids;
+        }
+    }
+}
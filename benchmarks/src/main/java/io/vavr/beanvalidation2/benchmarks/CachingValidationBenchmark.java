@@ -0,0 +1,132 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.beanvalidation2.VavrCachingValidator;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Map;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates the same immutable payload graph without a cache, with an empty {@link VavrCachingValidator} and with
+ * one that already knows the payload's containers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CachingValidationBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private Validator validator;
+    private VavrCachingValidator warmValidator;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        order = new Order(
+                new Customer("customer"),
+                Vector.range(0, size).map(i -> new Line("sku-" + i, i + 1)),
+                HashMap.ofAll(Vector.range(0, size).toJavaMap(i -> Tuple.of("key-" + i, "value-" + i))),
+                Tuple.of("reference", 1)
+        );
+        warmValidator = new VavrCachingValidator(validator, 1000, 1, TimeUnit.HOURS);
+        warmValidator.validate(order);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Order>> uncached() {
+        return validator.validate(order);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Order>> cold() {
+        return new VavrCachingValidator(validator, 1000, 1, TimeUnit.HOURS).validate(order);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Order>> warm() {
+        return warmValidator.validate(order);
+    }
+
+    public static class Order {
+        @Valid
+        private final Customer customer;
+        private final Vector<@Valid @NotNull Line> lines;
+        private final Map<@NotBlank String, @NotBlank String> attributes;
+        private final Tuple2<@NotBlank String, @Positive Integer> reference;
+
+        Order(Customer customer, Vector<Line> lines, Map<String, String> attributes,
+              Tuple2<String, Integer> reference) {
+            this.customer = customer;
+            this.lines = lines;
+            this.attributes = attributes;
+            this.reference = reference;
+        }
+    }
+
+    public static class Customer {
+        @NotBlank
+        private final String name;
+
+        Customer(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Line {
+        @NotBlank
+        private final String sku;
+        @Positive
+        private final int quantity;
+
+        Line(String sku, int quantity) {
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+}
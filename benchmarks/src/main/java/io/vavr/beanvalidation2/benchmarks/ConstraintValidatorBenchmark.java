@@ -0,0 +1,98 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.collection.Traversable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers {@code SizeValidatorForTraversable} and {@code NotEmptyValidatorForValue}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstraintValidatorBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    private int size;
+
+    @Param({"LIST", "VECTOR", "ARRAY", "STREAM", "HASH_MAP", "TREE_MAP", "LINKED_HASH_MAP", "HASH_MULTIMAP"})
+    private Containers.TraversableType type;
+
+    private Validator validator;
+    private SizeBean sizeBean;
+    private NotEmptyBean notEmptyBean;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        Traversable<?> elements = type.of(size);
+        sizeBean = new SizeBean(elements);
+        notEmptyBean = new NotEmptyBean(elements);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SizeBean>> size() {
+        return validator.validate(sizeBean);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<NotEmptyBean>> notEmpty() {
+        return validator.validate(notEmptyBean);
+    }
+
+    public static class SizeBean {
+        @Size(min = 1, max = 100)
+        private final Traversable<?> elements;
+
+        SizeBean(Traversable<?> elements) {
+            this.elements = elements;
+        }
+    }
+
+    public static class NotEmptyBean {
+        @NotEmpty
+        private final Traversable<?> elements;
+
+        NotEmptyBean(Traversable<?> elements) {
+            this.elements = elements;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.TreeMap;
+import io.vavr.collection.Vector;
+
+/**
+ * Factories for the container types the benchmarks are parameterized with.
+ * All containers hold {@code size} elements (or entries) derived from {@code 0 until size}.
+ */
+public final class Containers {
+
+    private Containers() {
+    }
+
+    public enum SeqType {
+        LIST {
+            @Override
+            public Seq<Integer> of(int size) {
+                return List.range(0, size);
+            }
+        },
+        VECTOR {
+            @Override
+            public Seq<Integer> of(int size) {
+                return Vector.range(0, size);
+            }
+        },
+        ARRAY {
+            @Override
+            public Seq<Integer> of(int size) {
+                return Array.range(0, size);
+            }
+        },
+        STREAM {
+            @Override
+            public Seq<Integer> of(int size) {
+                return Stream.range(0, size);
+            }
+        };
+
+        public abstract Seq<Integer> of(int size);
+    }
+
+    public enum MapType {
+        HASH_MAP {
+            @Override
+            public Map<Integer, Integer> of(int size) {
+                return HashMap.ofEntries(entries(size));
+            }
+        },
+        TREE_MAP {
+            @Override
+            public Map<Integer, Integer> of(int size) {
+                return TreeMap.ofEntries(entries(size));
+            }
+        },
+        LINKED_HASH_MAP {
+            @Override
+            public Map<Integer, Integer> of(int size) {
+                return LinkedHashMap.ofEntries(entries(size));
+            }
+        };
+
+        public abstract Map<Integer, Integer> of(int size);
+    }
+
+    public enum TraversableType {
+        LIST, VECTOR, ARRAY, STREAM, HASH_MAP, TREE_MAP, LINKED_HASH_MAP, HASH_MULTIMAP;
+
+        public Traversable<?> of(int size) {
+            switch (this) {
+                case HASH_MULTIMAP:
+                    return hashMultimap(size, Math.max(1, size / 10));
+                case HASH_MAP:
+                case TREE_MAP:
+                case LINKED_HASH_MAP:
+                    return MapType.valueOf(name()).of(size);
+                default:
+                    return SeqType.valueOf(name()).of(size);
+            }
+        }
+    }
+
+    /**
+     * Creates a multimap with {@code size} entries spread evenly over {@code keys} distinct keys.
+     */
+    public static Multimap<Integer, Integer> hashMultimap(int size, int keys) {
+        return HashMultimap.withSeq().ofEntries(Iterator.range(0, size).map(i -> Tuple.of(i % keys, i)));
+    }
+
+    private static Iterable<Tuple2<Integer, Integer>> entries(int size) {
+        return Iterator.range(0, size).map(i -> Tuple.of(i, i)).toList();
+    }
+}
@@ -0,0 +1,90 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.beanvalidation2.VavrDeduplicatingValidator;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates a square matrix whose rows are padded with a shared zero, and whose lower half consists of a shared
+ * padding row, with and without {@link VavrDeduplicatingValidator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeduplicationBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private Validator validator;
+    private VavrDeduplicatingValidator deduplicatingValidator;
+    private Matrix matrix;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        deduplicatingValidator = new VavrDeduplicatingValidator(validator);
+        final Double zero = 0.0;
+        final Vector<Double> padding = Vector.fill(size, zero);
+        matrix = new Matrix(Vector.range(0, size / 2)
+                .map(row -> padding.update(row, (double) row))
+                .appendAll(Vector.fill(size - size / 2, padding)));
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Matrix>> full() {
+        return validator.validate(matrix);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Matrix>> deduplicated() {
+        return deduplicatingValidator.validate(matrix);
+    }
+
+    public static class Matrix {
+        private final Vector<Vector<@NotNull @PositiveOrZero Double>> cells;
+
+        Matrix(Vector<Vector<Double>> cells) {
+            this.cells = cells;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.beanvalidation2.valueextraction.EitherLeftExtractor;
+import io.vavr.beanvalidation2.valueextraction.EitherRightExtractor;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers {@code EitherLeftExtractor} and {@code EitherRightExtractor}. Both extractors run for every
+ * {@code Either}, whichever side is present; {@code PRESENT_ONLY} registers the extractors that skip
+ * the absent side.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EitherExtractorBenchmark {
+
+    private static final String WORD = "^[a-z]+$";
+
+    @Param({"LEFT", "RIGHT"})
+    private String side;
+
+    @Param({"DEFAULT", "PRESENT_ONLY"})
+    private String extraction;
+
+    private Validator validator;
+    private TestBean bean;
+    private ManyEithersBean manyEithersBean;
+
+    @Setup
+    public void setUp() {
+        validator = "DEFAULT".equals(extraction)
+                ? ValidatorSupplier.INSTANCE.get()
+                : Validation.byDefaultProvider().configure()
+                        .addValueExtractor(EitherLeftExtractor.presentOnly())
+                        .addValueExtractor(EitherRightExtractor.presentOnly())
+                        .buildValidatorFactory()
+                        .getValidator();
+        bean = new TestBean("LEFT".equals(side) ? Either.left(42) : Either.right("success"));
+        manyEithersBean = new ManyEithersBean("LEFT".equals(side)
+                ? Either.left("failure")
+                : Either.right("success"));
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> validate() {
+        return validator.validate(bean);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ManyEithersBean>> validateManyEithers() {
+        return validator.validate(manyEithersBean);
+    }
+
+    public static class TestBean {
+        private final Either<@Positive Integer, @Size(max = 10) String> result;
+
+        TestBean(Either<Integer, String> result) {
+            this.result = result;
+        }
+    }
+
+    public static class ManyEithersBean {
+        private final Either<@Size(max = 10) @Pattern(regexp = WORD) String, @Size(max = 10) @Pattern(regexp = WORD) String> first;
+        private final Either<@Size(max = 10) @Pattern(regexp = WORD) String, @Size(max = 10) @Pattern(regexp = WORD) String> second;
+        private final Either<@Size(max = 10) @Pattern(regexp = WORD) String, @Size(max = 10) @Pattern(regexp = WORD) String> third;
+        private final Either<@Size(max = 10) @Pattern(regexp = WORD) String, @Size(max = 10) @Pattern(regexp = WORD) String> fourth;
+        private final Either<@Size(max = 10) @Pattern(regexp = WORD) String, @Size(max = 10) @Pattern(regexp = WORD) String> fifth;
+        private final Either<@Size(max = 10) @Pattern(regexp = WORD) String, @Size(max = 10) @Pattern(regexp = WORD) String> sixth;
+        private final Either<@Size(max = 10) @Pattern(regexp = WORD) String, @Size(max = 10) @Pattern(regexp = WORD) String> seventh;
+        private final Either<@Size(max = 10) @Pattern(regexp = WORD) String, @Size(max = 10) @Pattern(regexp = WORD) String> eighth;
+
+        ManyEithersBean(Either<String, String> value) {
+            first = second = third = fourth = fifth = sixth = seventh = eighth = value;
+        }
+    }
+}
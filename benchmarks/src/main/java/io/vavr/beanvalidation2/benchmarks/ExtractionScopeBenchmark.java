@@ -0,0 +1,128 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.beanvalidation2.valueextraction.ExtractionScope;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the {@code ExtractionScope} lookup of the {@code Seq}, {@code Map}, {@code Either} and
+ * {@code Tuple} extractors in a plain {@code validate}. With {@code NONE} no scope is active, so the extractors skip
+ * the lookup; with {@code OTHER_THREAD} another thread holds a scope, so every extractor call looks up its container
+ * in the thread local of the validating thread. {@code NONE} only relies on {@code validate}, so it can be compared
+ * with a version without scopes by putting its jar in front of the benchmarks jar:
+ *
+ * <pre>
+ * java -cp vavr-beanvalidation2-baseline.jar:benchmarks/target/benchmarks.jar org.openjdk.jmh.Main \
+ *     ExtractionScopeBenchmark -p scope=NONE
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtractionScopeBenchmark {
+
+    @Param({"NONE", "OTHER_THREAD"})
+    private String scope;
+
+    private Validator validator;
+    private TestBean bean;
+    private CountDownLatch release;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        validator = ValidatorSupplier.INSTANCE.get();
+        bean = new TestBean(List.range(1, 11), HashMap.ofEntries(List.range(1, 11).map(i -> Tuple.of("k" + i, i))),
+                Either.right(42), Tuple.of(1, "first"));
+        if ("OTHER_THREAD".equals(scope)) {
+            release = new CountDownLatch(1);
+            final CountDownLatch entered = new CountDownLatch(1);
+            final Thread holder = new Thread(() -> ExtractionScope.exclude(Collections.singleton(new Object()), () -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+            holder.setDaemon(true);
+            holder.start();
+            entered.await();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (release != null) {
+            release.countDown();
+        }
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> validate() {
+        return validator.validate(bean);
+    }
+
+    public static class TestBean {
+        private final Seq<@Positive Integer> seq;
+        private final Map<@NotNull String, @Positive Integer> map;
+        private final Either<@NotNull String, @Positive Integer> either;
+        private final Tuple2<@Positive Integer, @NotNull String> tuple;
+
+        TestBean(Seq<Integer> seq, Map<String, Integer> map, Either<String, Integer> either,
+                 Tuple2<Integer, String> tuple) {
+            this.seq = seq;
+            this.map = map;
+            this.either = either;
+            this.tuple = tuple;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.beanvalidation2.VavrIncrementalValidator;
+import io.vavr.collection.Map;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Re-validates a {@code Vector} and a {@code HashMap} property after a single element changed, once completely and
+ * once with {@link VavrIncrementalValidator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IncrementalValidationBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private Validator validator;
+    private VavrIncrementalValidator incrementalValidator;
+    private TestBean previous;
+    private TestBean current;
+    private Set<ConstraintViolation<TestBean>> previousViolations;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        incrementalValidator = new VavrIncrementalValidator(validator);
+        previous = new TestBean(Vector.range(0, size), Containers.MapType.HASH_MAP.of(size));
+        current = new TestBean(previous.elements.update(size / 2, (Integer) null), previous.entries.put(size / 2, -1));
+        previousViolations = validator.validate(previous);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> seqFull() {
+        return validator.validateProperty(current, "elements");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> seqDelta() {
+        return incrementalValidator.validateDelta(previous, previousViolations, current, "elements");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> mapFull() {
+        return validator.validateProperty(current, "entries");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> mapDelta() {
+        return incrementalValidator.validateDelta(previous, previousViolations, current, "entries");
+    }
+
+    public static class TestBean {
+        private final Vector<@NotNull Integer> elements;
+        private final Map<Integer, @NotNull @Positive Integer> entries;
+
+        TestBean(Vector<Integer> elements, Map<Integer, Integer> entries) {
+            this.elements = elements;
+            this.entries = entries;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Loads the classes of the class path anew, so that a benchmark sees them as a freshly started application does,
+ * and counts the classes it defines and their bytes. It can hide the vavr module, i.e. its classes, its service
+ * loader file and the constraint mappings, to measure the application without it, or the service loader file only.
+ */
+final class IsolatedClassLoader extends URLClassLoader {
+
+    private static final String MODULE_PACKAGE = "io/vavr/beanvalidation2/";
+    private static final String BENCHMARKS_PACKAGE = "io/vavr/beanvalidation2/benchmarks/";
+    private static final String SERVICE_FILE = "META-INF/services/javax.validation.valueextraction.ValueExtractor";
+
+    static final Predicate<String> NOTHING = name -> false;
+
+    static final Predicate<String> SERVICE_FILE_ONLY = SERVICE_FILE::equals;
+
+    static final Predicate<String> MODULE = name ->
+            name.startsWith(MODULE_PACKAGE) && !name.startsWith(BENCHMARKS_PACKAGE)
+                    || name.equals(SERVICE_FILE)
+                    || name.equals("META-INF/constraints-vavr.xml")
+                    || name.equals("META-INF/validation.xml");
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final Predicate<String> hidden;
+
+    private long definedClasses;
+    private long definedBytes;
+
+    IsolatedClassLoader(Predicate<String> hidden) {
+        // the extension loader as parent, so that only the JDK is shared with the benchmark itself
+        super(classPath(), ClassLoader.getSystemClassLoader().getParent());
+        this.hidden = hidden;
+    }
+
+    private static URL[] classPath() {
+        final String[] entries = System.getProperty("java.class.path").split(Pattern.quote(File.pathSeparator));
+        final URL[] urls = new URL[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            try {
+                urls[i] = new File(entries[i]).toURI().toURL();
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return urls;
+    }
+
+    synchronized long definedClasses() {
+        return definedClasses;
+    }
+
+    synchronized long definedBytes() {
+        return definedBytes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        final URL resource = findResource(name.replace('.', '/') + ".class");
+        if (resource == null) {
+            throw new ClassNotFoundException(name);
+        }
+        final byte[] bytes;
+        try (InputStream in = resource.openStream()) {
+            bytes = readAll(in);
+        } catch (IOException e) {
+            throw new ClassNotFoundException(name, e);
+        }
+        final int lastDot = name.lastIndexOf('.');
+        if (lastDot > 0) {
+            definePackageIfAbsent(name.substring(0, lastDot));
+        }
+        synchronized (this) {
+            definedClasses++;
+            definedBytes += bytes.length;
+        }
+        return defineClass(name, bytes, 0, bytes.length);
+    }
+
+    private void definePackageIfAbsent(String packageName) {
+        if (getPackage(packageName) == null) {
+            try {
+                definePackage(packageName, null, null, null, null, null, null, null);
+            } catch (IllegalArgumentException e) {
+                // defined concurrently
+            }
+        }
+    }
+
+    @Override
+    public URL findResource(String name) {
+        return hidden.test(name) ? null : super.findResource(name);
+    }
+
+    @Override
+    public Enumeration<URL> findResources(String name) throws IOException {
+        return hidden.test(name) ? Collections.emptyEnumeration() : super.findResources(name);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        final byte[] buffer = new byte[8192];
+        for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Runs {@code StartupScenarios.run(scenario)} in this loader, with it as the context class loader, which the
+     * validation provider uses for discovery.
+     */
+    int run(String scenario) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader context = thread.getContextClassLoader();
+        thread.setContextClassLoader(this);
+        try {
+            return (Integer) loadClass(StartupScenarios.class.getName())
+                    .getMethod("run", String.class)
+                    .invoke(null, scenario);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            thread.setContextClassLoader(context);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.beanvalidation2.valueextraction.MapKeyExtractor;
+import io.vavr.beanvalidation2.valueextraction.MapValueExtractor;
+import io.vavr.beanvalidation2.valueextraction.MultimapKeyExtractor;
+import io.vavr.beanvalidation2.valueextraction.MultimapValueExtractor;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the map and multimap extractors without a validator behind them. Hibernate Validator allocates
+ * several hundred bytes per validated element, which hides what the extractors themselves allocate;
+ * run with {@code -prof gc} to see the latter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapExtractionBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    private int size;
+
+    @Param({"HASH_MAP", "TREE_MAP", "LINKED_HASH_MAP"})
+    private Containers.MapType type;
+
+    private final MapKeyExtractor mapKeyExtractor = new MapKeyExtractor();
+    private final MapValueExtractor mapValueExtractor = new MapValueExtractor();
+    private final MultimapKeyExtractor multimapKeyExtractor = new MultimapKeyExtractor();
+    private final MultimapValueExtractor multimapValueExtractor = new MultimapValueExtractor();
+
+    private Map<Integer, Integer> map;
+    private Multimap<Integer, Integer> multimap;
+
+    @Setup
+    public void setUp() {
+        map = type.of(size);
+        multimap = Containers.hashMultimap(size, Math.max(1, size / 10));
+    }
+
+    @Benchmark
+    public void mapKeys(Blackhole blackhole) {
+        mapKeyExtractor.extractValues(map, new BlackholeValueReceiver(blackhole));
+    }
+
+    @Benchmark
+    public void mapValues(Blackhole blackhole) {
+        mapValueExtractor.extractValues(map, new BlackholeValueReceiver(blackhole));
+    }
+
+    @Benchmark
+    public void multimapKeys(Blackhole blackhole) {
+        multimapKeyExtractor.extractValues(multimap, new BlackholeValueReceiver(blackhole));
+    }
+
+    @Benchmark
+    public void multimapValues(Blackhole blackhole) {
+        multimapValueExtractor.extractValues(multimap, new BlackholeValueReceiver(blackhole));
+    }
+}
@@ -0,0 +1,93 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.collection.Multimap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers {@code MultimapKeyExtractor} and {@code MultimapValueExtractor} on a {@code HashMultimap}
+ * holding ten values per key.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultimapExtractorBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    private int size;
+
+    private Validator validator;
+    private KeyBean keyBean;
+    private ValueBean valueBean;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        Multimap<Integer, Integer> entries = Containers.hashMultimap(size, Math.max(1, size / 10));
+        keyBean = new KeyBean(entries);
+        valueBean = new ValueBean(entries);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<KeyBean>> keys() {
+        return validator.validate(keyBean);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ValueBean>> values() {
+        return validator.validate(valueBean);
+    }
+
+    public static class KeyBean {
+        private final Multimap<@NotNull Integer, Integer> entries;
+
+        KeyBean(Multimap<Integer, Integer> entries) {
+            this.entries = entries;
+        }
+    }
+
+    public static class ValueBean {
+        private final Multimap<Integer, @NotNull Integer> entries;
+
+        ValueBean(Multimap<Integer, Integer> entries) {
+            this.entries = entries;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.beanvalidation2.VavrParallelValidator;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates a {@code Vector<@Valid Order>} sequentially and with {@link VavrParallelValidator} on pools of
+ * {@code cores} threads. Compare the results on a machine with at least as many cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelValidationBenchmark {
+
+    @Param({"500000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int cores;
+
+    private Validator validator;
+    private ForkJoinPool pool;
+    private VavrParallelValidator parallelValidator;
+    private Batch batch;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        pool = new ForkJoinPool(cores);
+        parallelValidator = new VavrParallelValidator(validator, pool, 10_000);
+        batch = new Batch(Vector.range(0, size).map(i -> new Order("order-" + i, i + 1)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Batch>> sequential() {
+        return validator.validate(batch);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Batch>> parallel() {
+        return parallelValidator.validate(batch);
+    }
+
+    public static class Batch {
+        private final Vector<@Valid Order> orders;
+
+        Batch(Vector<Order> orders) {
+            this.orders = orders;
+        }
+    }
+
+    public static class Order {
+        @NotBlank
+        private final String id;
+        @Positive
+        private final int quantity;
+
+        Order(String id, int quantity) {
+            this.id = id;
+            this.quantity = quantity;
+        }
+    }
+}
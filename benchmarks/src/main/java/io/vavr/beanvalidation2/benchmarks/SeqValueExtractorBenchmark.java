@@ -0,0 +1,85 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.beanvalidation2.valueextraction.SeqValueExtractor;
+import io.vavr.collection.Seq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeqValueExtractorBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    private int size;
+
+    @Param({"LIST", "VECTOR", "ARRAY", "STREAM"})
+    private Containers.SeqType type;
+
+    private final SeqValueExtractor extractor = new SeqValueExtractor();
+
+    private Validator validator;
+    private TestBean bean;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        bean = new TestBean(type.of(size));
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> validate() {
+        return validator.validate(bean);
+    }
+
+    @Benchmark
+    public void extract(Blackhole blackhole) {
+        extractor.extractValues(bean.elements, new BlackholeValueReceiver(blackhole));
+    }
+
+    public static class TestBean {
+        private final Seq<@NotNull Integer> elements;
+
+        TestBean(Seq<Integer> elements) {
+            this.elements = elements;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Multimap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.Pattern;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regression benchmark for {@code MultimapKeyExtractor} on tag-index like multimaps where few keys hold
+ * almost all values. Key constraints have to run once per distinct key, so the score must depend on
+ * {@code keys} and not on {@code size}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkewedMultimapBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"1", "10", "100"})
+    private int keys;
+
+    private Validator validator;
+    private TestBean bean;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        bean = new TestBean(HashMultimap.withSet().ofEntries(
+                Iterator.range(0, size).map(i -> Tuple.of("tag-" + (i % keys), i))));
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> keys() {
+        return validator.validate(bean);
+    }
+
+    public static class TestBean {
+        private final Multimap<@Pattern(regexp = "^tag-[0-9]+$") String, Integer> tags;
+
+        TestBean(Multimap<String, Integer> tags) {
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.beanvalidation2.constraints.AllMax;
+import io.vavr.beanvalidation2.constraints.AllMin;
+import io.vavr.collection.TreeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares bounds on the elements of a {@code TreeSet}, which are checked one by one, to the same bounds on the
+ * set itself, which only checks its first and last element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortedBoundsBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    private int size;
+
+    private Validator validator;
+    private ElementBoundsBean elementBounds;
+    private SetBoundsBean setBounds;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        final TreeSet<Integer> ids = TreeSet.range(0, size);
+        elementBounds = new ElementBoundsBean(ids);
+        setBounds = new SetBoundsBean(ids);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ElementBoundsBean>> elementBounds() {
+        return validator.validate(elementBounds);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SetBoundsBean>> setBounds() {
+        return validator.validate(setBounds);
+    }
+
+    public static class ElementBoundsBean {
+        private final TreeSet<@Min(0) @Max(Integer.MAX_VALUE) Integer> ids;
+
+        ElementBoundsBean(TreeSet<Integer> ids) {
+            this.ids = ids;
+        }
+    }
+
+    public static class SetBoundsBean {
+        @AllMin(0)
+        @AllMax(Integer.MAX_VALUE)
+        private final TreeSet<Integer> ids;
+
+        SetBoundsBean(TreeSet<Integer> ids) {
+            this.ids = ids;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first validation in a fresh JVM: one single shot per fork, without warm-up. The
+ * validation provider and this module are loaded anew by an {@link IsolatedClassLoader}, which also counts the
+ * classes it defines and their bytes, printed with the output of each fork together with the growth of the
+ * metaspace (JMH does not report auxiliary counters for single shots).
+ * <ul>
+ *     <li>{@code withoutModule} hides this module and validates a {@code java.util.List} property</li>
+ *     <li>{@code withModule} validates a {@code Seq} property, the module registered via the service loader file
+ *     and {@code META-INF/validation.xml}</li>
+ *     <li>{@code withModuleInCode} does the same with {@code VavrValidation.configure}, ignoring the XML</li>
+ *     <li>{@code withModuleForBeans} hides the service loader file, as the {@code noservices} artifact does, and
+ *     registers the extractors {@code VavrExtractors.forBeans} discovers</li>
+ * </ul>
+ * Run with e.g. {@code -f 20} for stable numbers.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    @Param({"withoutModule", "withModule", "withModuleInCode", "withModuleForBeans"})
+    private String scenario;
+
+    private IsolatedClassLoader loader;
+
+    private long metaspaceBefore;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (scenario) {
+            case "withoutModule":
+                loader = new IsolatedClassLoader(IsolatedClassLoader.MODULE);
+                break;
+            case "withModuleForBeans":
+                loader = new IsolatedClassLoader(IsolatedClassLoader.SERVICE_FILE_ONLY);
+                break;
+            default:
+                loader = new IsolatedClassLoader(IsolatedClassLoader.NOTHING);
+        }
+        metaspaceBefore = metaspaceUsed();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        System.out.printf("%n%s: defined %d classes, %d bytes, metaspace +%d KB%n",
+                scenario, loader.definedClasses(), loader.definedBytes(), (metaspaceUsed() - metaspaceBefore) / 1024);
+        loader.close();
+    }
+
+    private static long metaspaceUsed() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> "Metaspace".equals(pool.getName()))
+                .mapToLong(pool -> pool.getUsage().getUsed())
+                .sum();
+    }
+
+    @Benchmark
+    public int firstValidation() {
+        return loader.run(scenario);
+    }
+}
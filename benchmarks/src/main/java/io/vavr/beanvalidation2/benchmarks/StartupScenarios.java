@@ -0,0 +1,85 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.beanvalidation2.VavrValidation;
+import io.vavr.beanvalidation2.valueextraction.VavrExtractors;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The ways to bootstrap a validator and validate a first bean, run by {@link StartupBenchmark} in an
+ * {@link IsolatedClassLoader}. Only the classes of the scenario run are loaded.
+ */
+public final class StartupScenarios {
+
+    private StartupScenarios() {
+    }
+
+    /**
+     * @param scenario one of {@code withoutModule}, {@code withModule}, {@code withModuleInCode} and
+     *                 {@code withModuleForBeans}
+     * @return the number of violations of the first validation
+     */
+    public static int run(String scenario) {
+        switch (scenario) {
+            case "withoutModule":
+                return Validation.buildDefaultValidatorFactory().getValidator()
+                        .validate(new JavaBean()).size();
+            case "withModule":
+                // discovers the extractors via the service loader and parses the mapping listed in validation.xml
+                return Validation.buildDefaultValidatorFactory().getValidator()
+                        .validate(new VavrBean()).size();
+            case "withModuleInCode":
+                final Validator validator = VavrValidation.configure(Validation.byDefaultProvider().configure()
+                        .ignoreXmlConfiguration())
+                        .buildValidatorFactory()
+                        .getValidator();
+                return validator.validate(new VavrBean()).size();
+            case "withModuleForBeans":
+                // the service loader file is hidden, only the extractors the bean needs are registered
+                final Validator selective = VavrExtractors.addTo(
+                        VavrValidation.configure(Validation.byDefaultProvider().configure().ignoreXmlConfiguration()),
+                        VavrExtractors.forBeans(VavrBean.class))
+                        .buildValidatorFactory()
+                        .getValidator();
+                return selective.validate(new VavrBean()).size();
+            default:
+                throw new IllegalArgumentException(scenario);
+        }
+    }
+
+    static class JavaBean {
+        @Size(max = 1)
+        private final List<@NotBlank String> names = Arrays.asList("", "b");
+    }
+
+    static class VavrBean {
+        @Size(max = 1)
+        private final Seq<@NotBlank String> names = Vector.of("", "b");
+    }
+}
@@ -0,0 +1,119 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple5;
+import io.vavr.Tuple8;
+import io.vavr.beanvalidation2.constraints.TupleNotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code @NotNull} on every element of a tuple, extracted one by one, with the tuple-level
+ * {@code @TupleNotNull}, which checks all elements in one validator call. {@code invalid} puts {@code null} into one
+ * position of each tuple.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TupleConstraintBenchmark {
+
+    @Param({"false", "true"})
+    private boolean invalid;
+
+    private Validator validator;
+    private TestBean bean;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+        bean = new TestBean(invalid ? null : 2);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> elements2() {
+        return validator.validateProperty(bean, "elements2");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple2() {
+        return validator.validateProperty(bean, "tuple2");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> elements5() {
+        return validator.validateProperty(bean, "elements5");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple5() {
+        return validator.validateProperty(bean, "tuple5");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> elements8() {
+        return validator.validateProperty(bean, "elements8");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple8() {
+        return validator.validateProperty(bean, "tuple8");
+    }
+
+    public static class TestBean {
+        private final Tuple2<@NotNull Integer, @NotNull Integer> elements2;
+        @TupleNotNull
+        private final Tuple2<Integer, Integer> tuple2;
+        private final Tuple5<@NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer,
+                @NotNull Integer> elements5;
+        @TupleNotNull
+        private final Tuple5<Integer, Integer, Integer, Integer, Integer> tuple5;
+        private final Tuple8<@NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer,
+                @NotNull Integer, @NotNull Integer, @NotNull Integer> elements8;
+        @TupleNotNull
+        private final Tuple8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> tuple8;
+
+        TestBean(Integer second) {
+            elements2 = tuple2 = Tuple.of(1, second);
+            elements5 = tuple5 = Tuple.of(1, second, 3, 4, 5);
+            elements8 = tuple8 = Tuple.of(1, second, 3, 4, 5, 6, 7, 8);
+        }
+    }
+}
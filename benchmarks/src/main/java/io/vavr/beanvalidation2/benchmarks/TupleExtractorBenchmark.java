@@ -0,0 +1,117 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.benchmarks;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple1;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import io.vavr.Tuple4;
+import io.vavr.Tuple5;
+import io.vavr.Tuple6;
+import io.vavr.Tuple7;
+import io.vavr.Tuple8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers the generated {@code Tuple1Extractor} .. {@code Tuple8Extractor}, one benchmark per arity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TupleExtractorBenchmark {
+
+    private Validator validator;
+    private final TestBean bean = new TestBean();
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorSupplier.INSTANCE.get();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple1() {
+        return validator.validateProperty(bean, "t1");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple2() {
+        return validator.validateProperty(bean, "t2");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple3() {
+        return validator.validateProperty(bean, "t3");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple4() {
+        return validator.validateProperty(bean, "t4");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple5() {
+        return validator.validateProperty(bean, "t5");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple6() {
+        return validator.validateProperty(bean, "t6");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple7() {
+        return validator.validateProperty(bean, "t7");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestBean>> tuple8() {
+        return validator.validateProperty(bean, "t8");
+    }
+
+    public static class TestBean {
+        private final Tuple1<@NotNull Integer> t1 = Tuple.of(1);
+        private final Tuple2<@NotNull Integer, @NotNull Integer> t2 = Tuple.of(1, 2);
+        private final Tuple3<@NotNull Integer, @NotNull Integer, @NotNull Integer> t3 = Tuple.of(1, 2, 3);
+        private final Tuple4<@NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer> t4 = Tuple.of(1, 2, 3, 4);
+        private final Tuple5<@NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer> t5 = Tuple.of(1, 2, 3, 4, 5);
+        private final Tuple6<@NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer> t6 = Tuple.of(1, 2, 3, 4, 5, 6);
+        private final Tuple7<@NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer> t7 = Tuple.of(1, 2, 3, 4, 5, 6, 7);
+        private final Tuple8<@NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer, @NotNull Integer> t8 = Tuple.of(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+}
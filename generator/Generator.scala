@@ -39,6 +39,7 @@ val collectionValueExtractors =
     |io.vavr.beanvalidation2.valueextraction.MultimapValueExtractor
     |io.vavr.beanvalidation2.valueextraction.EitherLeftExtractor
     |io.vavr.beanvalidation2.valueextraction.EitherRightExtractor
+    |io.vavr.beanvalidation2.valueextraction.LazyValueExtractor
     |""".stripMargin
 
 // generate extractors
@@ -52,8 +53,138 @@ genFile(TARGET_MAIN_RES, "META-INF/services", "javax.validation.valueextraction.
   } yield s"""io.vavr.beanvalidation2.valueextraction.Tuple${a}Extractor$$${getNameForPosition(p)}Extractor""").mkString("\n")
 }
 
+// generate tuple-level constraints, validated in one call per tuple
+case class TupleConstraint(name: String, doc: String, message: String, attributes: String, initialization: String)
+
+// literal lines are indented like the rest of the script when it is run, so line breaks are part of the literals
+val tupleConstraints = Seq(
+  TupleConstraint("TupleNotNull",
+    """All elements of the annotated tuple, a {@code Tuple1} to {@code Tuple8}, must not be {@code null}.""",
+    "{javax.validation.constraints.NotNull.message}",
+    "",
+    "requireNotNull(constraintAnnotation.message());"),
+  TupleConstraint("TupleNotBlank",
+    """All elements of the annotated tuple, a {@code Tuple1} to {@code Tuple8}, must not be {@code null} and, if they
+ * are character sequences, e.g. a {@code String} or a {@code CharSeq}, must contain at least one non-whitespace
+ * character.""",
+    "{javax.validation.constraints.NotBlank.message}",
+    "",
+    "requireNotBlank(constraintAnnotation.message());"),
+  TupleConstraint("TupleElements",
+    """The elements at the given positions of the annotated tuple, a {@code Tuple1} to {@code Tuple8}, must not be
+ * {@code null} or blank, as for {@link TupleNotNull} and {@link TupleNotBlank}. Positions are counted from 1, as
+ * in {@code _1}, e.g. {@code @TupleElements(notNull = 1, notBlank = {2, 3})}. With the default empty message, the
+ * messages of {@code @NotNull} and {@code @NotBlank} are used.""",
+    "",
+    """
+    /**
+     * @return the positions of the elements that must not be {@code null}
+     */
+    int[] notNull() default {};
+
+    /**
+     * @return the positions of the elements that must not be {@code null} or blank
+     */
+    int[] notBlank() default {};
+""",
+    "require(constraintAnnotation.notNull(), constraintAnnotation.notBlank(), constraintAnnotation.message());")
+)
+
+for (c <- tupleConstraints) {
+  genVavrFile("io.vavr.beanvalidation2.constraints", c.name)(genTupleConstraint(c))
+  genVavrFile("io.vavr.beanvalidation2.constraintvalidators", s"${c.name}Validator")(genTupleConstraintValidator(c))
+}
+
+def genTupleConstraint(c: TupleConstraint): (String, String) => String = (packageName: String, className: String) => s"""
+import io.vavr.beanvalidation2.constraintvalidators.${className}Validator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * ${c.doc}
+ * <p>
+ * The elements are checked in a single call of the validator, which is cheaper than extracting each of them for
+ * element constraints like {@code Tuple3<@NotNull A, @NotNull B, @NotNull C>}. Each offending element is reported
+ * with its position, with the same path as an element constraint.
+ */
+@Documented
+@Constraint(validatedBy = {${(1 to N).map(t => s"""
+        ${className}Validator.ForTuple$t.class""").mkString(",")}
+})
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable($className.List.class)
+public @interface $className {
+
+    String message() default "${c.message}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+${c.attributes}
+    @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+    @Retention(RUNTIME)
+    @Documented
+    @interface List {
+
+        $className[] value();
+    }
+}"""
+
+def genTupleConstraintValidator(c: TupleConstraint): (String, String) => String = (packageName: String, className: String) => s"""${(1 to N).map(t => s"""
+import io.vavr.Tuple$t;""").mkString}
+import io.vavr.beanvalidation2.constraints.${c.name};
+
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link ${c.name}} for the tuples of arity 1 to $N.
+ */
+public interface $className {
+${(1 to N).map(t => genTupleConstraintValidatorForArity(c, t)).mkString}}"""
+
+def genTupleConstraintValidatorForArity(c: TupleConstraint, arity: Int) = {
+  val tupleType = s"Tuple$arity<${(1 to arity).map(_ => "?").mkString(", ")}>"
+  s"""
+    class ForTuple$arity extends ElementsValidatorForTuple<${c.name}, $tupleType> {
+
+        public ForTuple$arity() {
+            super(Tuple$arity.class, $arity);
+        }
+
+        @Override
+        public void initialize(${c.name} constraintAnnotation) {
+            ${c.initialization}
+        }
+
+        @Override
+        public boolean isValid($tupleType value, ConstraintValidatorContext context) {
+            if (value == null) {
+                return true;
+            }
+            return ${(1 to arity).map(pos => s"check(context, $pos, value._$pos)").mkString("""
+                    & """)};
+        }
+    }
+"""
+}
+
 def genExtractor(arity: Int): (String, String) => String = (packageName: String, className: String) => { raw"""
 import io.vavr.Tuple$arity;
+import io.vavr.collection.List;
 
 import javax.validation.valueextraction.ExtractedValue;
 import javax.validation.valueextraction.ValueExtractor;
@@ -61,6 +192,14 @@ import javax.validation.valueextraction.ValueExtractor;
 
 public interface $className {
 
+      /**
+       * @return the extractors of all positions of a {@code Tuple$arity}
+       */
+      static List<ValueExtractor<?>> extractors() {
+          return List.of(${(1 to arity).map(pos => s"new ${getNameForPosition(pos)}Extractor()").mkString(""",
+                  """)});
+      }
+
 """ + (for (pos <- 1 to arity) yield genExtractorForPosition(arity, pos)).mkString("\n\n") + """
     }"""
 }
@@ -78,7 +217,9 @@ def genExtractorForPosition(arity: Int, pos: Int)= {
 
             @Override
             public void extractValues($tupleClassWithWildcardTypeParameter originalValue, ValueReceiver receiver) {
-                receiver.indexedValue("$TUPLE_NODE_NAME", $pos, originalValue._$pos);
+                if (!ExtractionScope.isExcluded(originalValue)) {
+                    receiver.indexedValue("$TUPLE_NODE_NAME", $pos, originalValue._$pos);
+                }
             }
 
         }"""
@@ -0,0 +1,82 @@
+
+  
+  /*  __    __  __  __    __  ___
+   * \  \  /  /    \  \  /  /  __/
+   *  \  \/  /  /\  \  \/  /  /
+   *   \____/__/  \__\____/__/
+   *
+   * Copyright 2014-2018 Vavr, http://vavr.io
+   *
+   * Licensed under the Apache License, Version 2.0 (the "License");
+   * you may not use this file except in compliance with the License.
+   * You may obtain a copy of the License at
+   *
+   *     http://www.apache.org/licenses/LICENSE-2.0
+   *
+   * Unless required by applicable law or agreed to in writing, software
+   * distributed under the License is distributed on an "AS IS" BASIS,
+   * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   * See the License for the specific language governing permissions and
+   * limitations under the License.
+   */
+      
+  package io.vavr.beanvalidation2.constraints;
+  /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*\
+     G E N E R A T O R   C R A F T E D
+  \*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*/
+  
+  import io.vavr.beanvalidation2.constraintvalidators.TupleNotNullValidator;
+  
+  import javax.validation.Constraint;
+  import javax.validation.Payload;
+  import java.lang.annotation.Documented;
+  import java.lang.annotation.Repeatable;
+  import java.lang.annotation.Retention;
+  import java.lang.annotation.Target;
+  
+  import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+  import static java.lang.annotation.ElementType.CONSTRUCTOR;
+  import static java.lang.annotation.ElementType.FIELD;
+  import static java.lang.annotation.ElementType.METHOD;
+  import static java.lang.annotation.ElementType.PARAMETER;
+  import static java.lang.annotation.ElementType.TYPE_USE;
+  import static java.lang.annotation.RetentionPolicy.RUNTIME;
+  
+  /**
+   * All elements of the annotated tuple, a {@code Tuple1} to {@code Tuple8}, must not be {@code null}.
+   * <p>
+   * The elements are checked in a single call of the validator, which is cheaper than extracting each of them for
+   * element constraints like {@code Tuple3<@NotNull A, @NotNull B, @NotNull C>}. Each offending element is reported
+   * with its position, with the same path as an element constraint.
+   */
+  @Documented
+  @Constraint(validatedBy = {
+          TupleNotNullValidator.ForTuple1.class,
+          TupleNotNullValidator.ForTuple2.class,
+          TupleNotNullValidator.ForTuple3.class,
+          TupleNotNullValidator.ForTuple4.class,
+          TupleNotNullValidator.ForTuple5.class,
+          TupleNotNullValidator.ForTuple6.class,
+          TupleNotNullValidator.ForTuple7.class,
+          TupleNotNullValidator.ForTuple8.class
+  })
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Repeatable(TupleNotNull.List.class)
+  public @interface TupleNotNull {
+  
+      String message() default "{javax.validation.constraints.NotNull.message}";
+  
+      Class<?>[] groups() default {};
+  
+      Class<? extends Payload>[] payload() default {};
+  
+      @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+      @Retention(RUNTIME)
+      @Documented
+      @interface List {
+  
+          TupleNotNull[] value();
+      }
+  }
+  
\ No newline at end of file
@@ -0,0 +1,233 @@
+
+  
+  /*  __    __  __  __    __  ___
+   * \  \  /  /    \  \  /  /  __/
+   *  \  \/  /  /\  \  \/  /  /
+   *   \____/__/  \__\____/__/
+   *
+   * Copyright 2014-2018 Vavr, http://vavr.io
+   *
+   * Licensed under the Apache License, Version 2.0 (the "License");
+   * you may not use this file except in compliance with the License.
+   * You may obtain a copy of the License at
+   *
+   *     http://www.apache.org/licenses/LICENSE-2.0
+   *
+   * Unless required by applicable law or agreed to in writing, software
+   * distributed under the License is distributed on an "AS IS" BASIS,
+   * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   * See the License for the specific language governing permissions and
+   * limitations under the License.
+   */
+      
+  package io.vavr.beanvalidation2.constraintvalidators;
+  /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*\
+     G E N E R A T O R   C R A F T E D
+  \*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*/
+  
+  import io.vavr.Tuple1;
+  import io.vavr.Tuple2;
+  import io.vavr.Tuple3;
+  import io.vavr.Tuple4;
+  import io.vavr.Tuple5;
+  import io.vavr.Tuple6;
+  import io.vavr.Tuple7;
+  import io.vavr.Tuple8;
+  import io.vavr.beanvalidation2.constraints.TupleElements;
+  
+  import javax.validation.ConstraintValidatorContext;
+  
+  /**
+   * Validates {@link TupleElements} for the tuples of arity 1 to 8.
+   */
+  public interface TupleElementsValidator {
+  
+      class ForTuple1 extends ElementsValidatorForTuple<TupleElements, Tuple1<?>> {
+  
+          public ForTuple1() {
+              super(Tuple1.class, 1);
+          }
+  
+          @Override
+          public void initialize(TupleElements constraintAnnotation) {
+              require(constraintAnnotation.notNull(), constraintAnnotation.notBlank(), constraintAnnotation.message());
+          }
+  
+          @Override
+          public boolean isValid(Tuple1<?> value, ConstraintValidatorContext context) {
+              if (value == null) {
+                  return true;
+              }
+              return check(context, 1, value._1);
+          }
+      }
+  
+      class ForTuple2 extends ElementsValidatorForTuple<TupleElements, Tuple2<?, ?>> {
+  
+          public ForTuple2() {
+              super(Tuple2.class, 2);
+          }
+  
+          @Override
+          public void initialize(TupleElements constraintAnnotation) {
+              require(constraintAnnotation.notNull(), constraintAnnotation.notBlank(), constraintAnnotation.message());
+          }
+  
+          @Override
+          public boolean isValid(Tuple2<?, ?> value, ConstraintValidatorContext context) {
+              if (value == null) {
+                  return true;
+              }
+              return check(context, 1, value._1)
+                      & check(context, 2, value._2);
+          }
+      }
+  
+      class ForTuple3 extends ElementsValidatorForTuple<TupleElements, Tuple3<?, ?, ?>> {
+  
+          public ForTuple3() {
+              super(Tuple3.class, 3);
+          }
+  
+          @Override
+          public void initialize(TupleElements constraintAnnotation) {
+              require(constraintAnnotation.notNull(), constraintAnnotation.notBlank(), constraintAnnotation.message());
+          }
+  
+          @Override
+          public boolean isValid(Tuple3<?, ?, ?> value, ConstraintValidatorContext context) {
+              if (value == null) {
+                  return true;
+              }
+              return check(context, 1, value._1)
+                      & check(context, 2, value._2)
+                      & check(context, 3, value._3);
+          }
+      }
+  
+      class ForTuple4 extends ElementsValidatorForTuple<TupleElements, Tuple4<?, ?, ?, ?>> {
+  
+          public ForTuple4() {
+              super(Tuple4.class, 4);
+          }
+  
+          @Override
+          public void initialize(TupleElements constraintAnnotation) {
+              require(constraintAnnotation.notNull(), constraintAnnotation.notBlank(), constraintAnnotation.message());
+          }
+  
+          @Override
+          public boolean isValid(Tuple4<?, ?, ?, ?> value, ConstraintValidatorContext context) {
+              if (value == null) {
+                  return true;
+              }
+              return check(context, 1, value._1)
+                      & check(context, 2, value._2)
+                      & check(context, 3, value._3)
+                      & check(context, 4, value._4);
+          }
+      }
+  
+      class ForTuple5 extends ElementsValidatorForTuple<TupleElements, Tuple5<?, ?, ?, ?, ?>> {
+  
+          public ForTuple5() {
+              super(Tuple5.class, 5);
+          }
+  
+          @Override
+          public void initialize(TupleElements constraintAnnotation) {
+              require(constraintAnnotation.notNull(), constraintAnnotation.notBlank(), constraintAnnotation.message());
+          }
+  
+          @Override
+          public boolean isValid(Tuple5<?, ?, ?, ?, ?> value, ConstraintValidatorContext context) {
+              if (value == null) {
+                  return true;
+              }
+              return check(context, 1, value._1)
+                      & check(context, 2, value._2)
+                      & check(context, 3, value._3)
+                      & check(context, 4, value._4)
+                      & check(context, 5, value._5);
+          }
+      }
+  
+      class ForTuple6 extends ElementsValidatorForTuple<TupleElements, Tuple6<?, ?, ?, ?, ?, ?>> {
+  
+          public ForTuple6() {
+              super(Tuple6.class, 6);
+          }
+  
+          @Override
+          public void initialize(TupleElements constraintAnnotation) {
+              require(constraintAnnotation.notNull(), constraintAnnotation.notBlank(), constraintAnnotation.message());
+          }
+  
+          @Override
+          public boolean isValid(Tuple6<?, ?, ?, ?, ?, ?> value, ConstraintValidatorContext context) {
+              if (value == null) {
+                  return true;
+              }
+              return check(context, 1, value._1)
+                      & check(context, 2, value._2)
+                      & check(context, 3, value._3)
+                      & check(context, 4, value._4)
+                      & check(context, 5, value._5)
+                      & check(context, 6, value._6);
+          }
+      }
+  
+      class ForTuple7 extends ElementsValidatorForTuple<TupleElements, Tuple7<?, ?, ?, ?, ?, ?, ?>> {
+  
+          public ForTuple7() {
+              super(Tuple7.class, 7);
+          }
+  
+          @Override
+          public void initialize(TupleElements constraintAnnotation) {
+              require(constraintAnnotation.notNull(), constraintAnnotation.notBlank(), constraintAnnotation.message());
+          }
+  
+          @Override
+          public boolean isValid(Tuple7<?, ?, ?, ?, ?, ?, ?> value, ConstraintValidatorContext context) {
+              if (value == null) {
+                  return true;
+              }
+              return check(context, 1, value._1)
+                      & check(context, 2, value._2)
+                      & check(context, 3, value._3)
+                      & check(context, 4, value._4)
+                      & check(context, 5, value._5)
+                      & check(context, 6, value._6)
+                      & check(context, 7, value._7);
+          }
+      }
+  
+      class ForTuple8 extends ElementsValidatorForTuple<TupleElements, Tuple8<?, ?, ?, ?, ?, ?, ?, ?>> {
+  
+          public ForTuple8() {
+              super(Tuple8.class, 8);
+          }
+  
+          @Override
+          public void initialize(TupleElements constraintAnnotation) {
+              require(constraintAnnotation.notNull(), constraintAnnotation.notBlank(), constraintAnnotation.message());
+          }
+  
+          @Override
+          public boolean isValid(Tuple8<?, ?, ?, ?, ?, ?, ?, ?> value, ConstraintValidatorContext context) {
+              if (value == null) {
+                  return true;
+              }
+              return check(context, 1, value._1)
+                      & check(context, 2, value._2)
+                      & check(context, 3, value._3)
+                      & check(context, 4, value._4)
+                      & check(context, 5, value._5)
+                      & check(context, 6, value._6)
+                      & check(context, 7, value._7)
+                      & check(context, 8, value._8);
+          }
+      }
+  }
+  
\ No newline at end of file
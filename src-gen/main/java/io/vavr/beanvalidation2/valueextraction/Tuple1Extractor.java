@@ -26,6 +26,7 @@
   \*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*/
   
   import io.vavr.Tuple1;
+  import io.vavr.collection.List;
   
   import javax.validation.valueextraction.ExtractedValue;
   import javax.validation.valueextraction.ValueExtractor;
@@ -33,12 +34,21 @@
   
   public interface Tuple1Extractor {
   
+        /**
+         * @return the extractors of all positions of a {@code Tuple1}
+         */
+        static List<ValueExtractor<?>> extractors() {
+            return List.of(new FirstExtractor());
+        }
+  
   
         class FirstExtractor implements ValueExtractor<Tuple1<@ExtractedValue ?>> {
   
               @Override
               public void extractValues(Tuple1<?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 1, originalValue._1);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 1, originalValue._1);
+                  }
               }
   
           }
@@ -26,6 +26,7 @@
   \*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*/
   
   import io.vavr.Tuple2;
+  import io.vavr.collection.List;
   
   import javax.validation.valueextraction.ExtractedValue;
   import javax.validation.valueextraction.ValueExtractor;
@@ -33,12 +34,22 @@
   
   public interface Tuple2Extractor {
   
+        /**
+         * @return the extractors of all positions of a {@code Tuple2}
+         */
+        static List<ValueExtractor<?>> extractors() {
+            return List.of(new FirstExtractor(),
+                    new SecondExtractor());
+        }
+  
   
         class FirstExtractor implements ValueExtractor<Tuple2<@ExtractedValue ?, ?>> {
   
               @Override
               public void extractValues(Tuple2<?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 1, originalValue._1);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 1, originalValue._1);
+                  }
               }
   
           }
@@ -48,7 +59,9 @@
   
               @Override
               public void extractValues(Tuple2<?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 2, originalValue._2);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 2, originalValue._2);
+                  }
               }
   
           }
@@ -26,6 +26,7 @@
   \*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*/
   
   import io.vavr.Tuple3;
+  import io.vavr.collection.List;
   
   import javax.validation.valueextraction.ExtractedValue;
   import javax.validation.valueextraction.ValueExtractor;
@@ -33,12 +34,23 @@
   
   public interface Tuple3Extractor {
   
+        /**
+         * @return the extractors of all positions of a {@code Tuple3}
+         */
+        static List<ValueExtractor<?>> extractors() {
+            return List.of(new FirstExtractor(),
+                    new SecondExtractor(),
+                    new ThirdExtractor());
+        }
+  
   
         class FirstExtractor implements ValueExtractor<Tuple3<@ExtractedValue ?, ?, ?>> {
   
               @Override
               public void extractValues(Tuple3<?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 1, originalValue._1);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 1, originalValue._1);
+                  }
               }
   
           }
@@ -48,7 +60,9 @@
   
               @Override
               public void extractValues(Tuple3<?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 2, originalValue._2);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 2, originalValue._2);
+                  }
               }
   
           }
@@ -58,7 +72,9 @@
   
               @Override
               public void extractValues(Tuple3<?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 3, originalValue._3);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 3, originalValue._3);
+                  }
               }
   
           }
@@ -26,6 +26,7 @@
   \*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*/
   
   import io.vavr.Tuple4;
+  import io.vavr.collection.List;
   
   import javax.validation.valueextraction.ExtractedValue;
   import javax.validation.valueextraction.ValueExtractor;
@@ -33,12 +34,24 @@
   
   public interface Tuple4Extractor {
   
+        /**
+         * @return the extractors of all positions of a {@code Tuple4}
+         */
+        static List<ValueExtractor<?>> extractors() {
+            return List.of(new FirstExtractor(),
+                    new SecondExtractor(),
+                    new ThirdExtractor(),
+                    new FourthExtractor());
+        }
+  
   
         class FirstExtractor implements ValueExtractor<Tuple4<@ExtractedValue ?, ?, ?, ?>> {
   
               @Override
               public void extractValues(Tuple4<?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 1, originalValue._1);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 1, originalValue._1);
+                  }
               }
   
           }
@@ -48,7 +61,9 @@
   
               @Override
               public void extractValues(Tuple4<?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 2, originalValue._2);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 2, originalValue._2);
+                  }
               }
   
           }
@@ -58,7 +73,9 @@
   
               @Override
               public void extractValues(Tuple4<?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 3, originalValue._3);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 3, originalValue._3);
+                  }
               }
   
           }
@@ -68,7 +85,9 @@
   
               @Override
               public void extractValues(Tuple4<?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 4, originalValue._4);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 4, originalValue._4);
+                  }
               }
   
           }
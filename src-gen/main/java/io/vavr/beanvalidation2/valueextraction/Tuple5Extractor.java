@@ -26,6 +26,7 @@
   \*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*/
   
   import io.vavr.Tuple5;
+  import io.vavr.collection.List;
   
   import javax.validation.valueextraction.ExtractedValue;
   import javax.validation.valueextraction.ValueExtractor;
@@ -33,12 +34,25 @@
   
   public interface Tuple5Extractor {
   
+        /**
+         * @return the extractors of all positions of a {@code Tuple5}
+         */
+        static List<ValueExtractor<?>> extractors() {
+            return List.of(new FirstExtractor(),
+                    new SecondExtractor(),
+                    new ThirdExtractor(),
+                    new FourthExtractor(),
+                    new FifthExtractor());
+        }
+  
   
         class FirstExtractor implements ValueExtractor<Tuple5<@ExtractedValue ?, ?, ?, ?, ?>> {
   
               @Override
               public void extractValues(Tuple5<?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 1, originalValue._1);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 1, originalValue._1);
+                  }
               }
   
           }
@@ -48,7 +62,9 @@
   
               @Override
               public void extractValues(Tuple5<?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 2, originalValue._2);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 2, originalValue._2);
+                  }
               }
   
           }
@@ -58,7 +74,9 @@
   
               @Override
               public void extractValues(Tuple5<?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 3, originalValue._3);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 3, originalValue._3);
+                  }
               }
   
           }
@@ -68,7 +86,9 @@
   
               @Override
               public void extractValues(Tuple5<?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 4, originalValue._4);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 4, originalValue._4);
+                  }
               }
   
           }
@@ -78,7 +98,9 @@
   
               @Override
               public void extractValues(Tuple5<?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 5, originalValue._5);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 5, originalValue._5);
+                  }
               }
   
           }
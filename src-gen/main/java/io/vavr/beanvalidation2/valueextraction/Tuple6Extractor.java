@@ -26,6 +26,7 @@
   \*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*/
   
   import io.vavr.Tuple6;
+  import io.vavr.collection.List;
   
   import javax.validation.valueextraction.ExtractedValue;
   import javax.validation.valueextraction.ValueExtractor;
@@ -33,12 +34,26 @@
   
   public interface Tuple6Extractor {
   
+        /**
+         * @return the extractors of all positions of a {@code Tuple6}
+         */
+        static List<ValueExtractor<?>> extractors() {
+            return List.of(new FirstExtractor(),
+                    new SecondExtractor(),
+                    new ThirdExtractor(),
+                    new FourthExtractor(),
+                    new FifthExtractor(),
+                    new SixthExtractor());
+        }
+  
   
         class FirstExtractor implements ValueExtractor<Tuple6<@ExtractedValue ?, ?, ?, ?, ?, ?>> {
   
               @Override
               public void extractValues(Tuple6<?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 1, originalValue._1);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 1, originalValue._1);
+                  }
               }
   
           }
@@ -48,7 +63,9 @@
   
               @Override
               public void extractValues(Tuple6<?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 2, originalValue._2);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 2, originalValue._2);
+                  }
               }
   
           }
@@ -58,7 +75,9 @@
   
               @Override
               public void extractValues(Tuple6<?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 3, originalValue._3);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 3, originalValue._3);
+                  }
               }
   
           }
@@ -68,7 +87,9 @@
   
               @Override
               public void extractValues(Tuple6<?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 4, originalValue._4);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 4, originalValue._4);
+                  }
               }
   
           }
@@ -78,7 +99,9 @@
   
               @Override
               public void extractValues(Tuple6<?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 5, originalValue._5);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 5, originalValue._5);
+                  }
               }
   
           }
@@ -88,7 +111,9 @@
   
               @Override
               public void extractValues(Tuple6<?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 6, originalValue._6);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 6, originalValue._6);
+                  }
               }
   
           }
@@ -26,6 +26,7 @@
   \*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-*/
   
   import io.vavr.Tuple8;
+  import io.vavr.collection.List;
   
   import javax.validation.valueextraction.ExtractedValue;
   import javax.validation.valueextraction.ValueExtractor;
@@ -33,12 +34,28 @@
   
   public interface Tuple8Extractor {
   
+        /**
+         * @return the extractors of all positions of a {@code Tuple8}
+         */
+        static List<ValueExtractor<?>> extractors() {
+            return List.of(new FirstExtractor(),
+                    new SecondExtractor(),
+                    new ThirdExtractor(),
+                    new FourthExtractor(),
+                    new FifthExtractor(),
+                    new SixthExtractor(),
+                    new SeventhExtractor(),
+                    new EighthExtractor());
+        }
+  
   
         class FirstExtractor implements ValueExtractor<Tuple8<@ExtractedValue ?, ?, ?, ?, ?, ?, ?, ?>> {
   
               @Override
               public void extractValues(Tuple8<?, ?, ?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 1, originalValue._1);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 1, originalValue._1);
+                  }
               }
   
           }
@@ -48,7 +65,9 @@
   
               @Override
               public void extractValues(Tuple8<?, ?, ?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 2, originalValue._2);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 2, originalValue._2);
+                  }
               }
   
           }
@@ -58,7 +77,9 @@
   
               @Override
               public void extractValues(Tuple8<?, ?, ?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 3, originalValue._3);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 3, originalValue._3);
+                  }
               }
   
           }
@@ -68,7 +89,9 @@
   
               @Override
               public void extractValues(Tuple8<?, ?, ?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 4, originalValue._4);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 4, originalValue._4);
+                  }
               }
   
           }
@@ -78,7 +101,9 @@
   
               @Override
               public void extractValues(Tuple8<?, ?, ?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 5, originalValue._5);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 5, originalValue._5);
+                  }
               }
   
           }
@@ -88,7 +113,9 @@
   
               @Override
               public void extractValues(Tuple8<?, ?, ?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 6, originalValue._6);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 6, originalValue._6);
+                  }
               }
   
           }
@@ -98,7 +125,9 @@
   
               @Override
               public void extractValues(Tuple8<?, ?, ?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 7, originalValue._7);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 7, originalValue._7);
+                  }
               }
   
           }
@@ -108,7 +137,9 @@
   
               @Override
               public void extractValues(Tuple8<?, ?, ?, ?, ?, ?, ?, ?> originalValue, ValueReceiver receiver) {
-                  receiver.indexedValue("<element>", 8, originalValue._8);
+                  if (!ExtractionScope.isExcluded(originalValue)) {
+                      receiver.indexedValue("<element>", 8, originalValue._8);
+                  }
               }
   
           }
@@ -0,0 +1,155 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.beanvalidation2.valueextraction.ExtractionScope;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Traversable;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.metadata.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * The vavr containers this module extracts elements from.
+ */
+final class Containers {
+
+    private Containers() {
+    }
+
+    /**
+     * Tests if the extractors of this module extract {@code value}, so that it can be restricted or excluded with
+     * {@link ExtractionScope}. An {@code Option} is not: this module has no extractor for it, its value is extracted
+     * by the {@code Iterable} extractor of the validation provider, which the scope cannot restrict. Adding one
+     * would change the {@code <iterable element>} node of its violations, so its property is validated as usual.
+     */
+    static boolean isExtracted(Object value) {
+        return value instanceof Seq || value instanceof Map || value instanceof Multimap
+                || value instanceof Either || value instanceof Tuple;
+    }
+
+    /**
+     * Tests if {@code violation} lies below the property at {@code path}, i.e. within its elements.
+     */
+    static boolean isWithin(ConstraintViolation<?> violation, Iterable<String> path) {
+        final Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+        for (String name : path) {
+            if (!nodes.hasNext() || !name.equals(nodes.next().getName())) {
+                return false;
+            }
+        }
+        return nodes.hasNext();
+    }
+
+    /**
+     * Walks the values reachable from the properties of {@code bean} the way a validation traverses them: through
+     * the properties that cascade or have container element constraints, the elements of containers and the
+     * properties of the beans among them. Lazy values that were not evaluated, futures that did not complete
+     * successfully and containers without a definite size are not walked into.
+     *
+     * @param visitor called for each occurrence of a value, tells whether to walk into it
+     * @param visited the values walked into so far, by identity, each is walked into once
+     */
+    static void walkProperties(Validator validator, Object bean, Visitor visitor, Set<Object> visited) {
+        for (PropertyDescriptor property : validator.getConstraintsForClass(bean.getClass())
+                .getConstrainedProperties()) {
+            if (isTraversed(property)) {
+                final String name = property.getPropertyName();
+                walk(validator, PropertyAccess.read(bean, name), bean, name, visitor, visited);
+            }
+        }
+    }
+
+    /**
+     * Tests if a validation traverses the value of {@code property} beyond its property level constraints.
+     */
+    static boolean isTraversed(PropertyDescriptor property) {
+        return property.isCascaded() || !property.getConstrainedContainerElementTypes().isEmpty();
+    }
+
+    /**
+     * Like {@link #walkProperties(Validator, Object, Visitor, Set)}, starting at {@code value}, the value of
+     * {@code property} of {@code owner}.
+     */
+    static void walk(Validator validator, Object value, Object owner, String property, Visitor visitor,
+                     Set<Object> visited) {
+        if (value == null || !visitor.visit(value, owner, property) || !visited.add(value)) {
+            return;
+        }
+        if (value instanceof Future) {
+            final Future<?> future = (Future<?>) value;
+            if (future.isSuccess()) {
+                walk(validator, future.get(), null, null, visitor, visited);
+            }
+        } else if (value instanceof Lazy) {
+            final Lazy<?> lazy = (Lazy<?>) value;
+            if (lazy.isEvaluated()) {
+                walk(validator, lazy.get(), null, null, visitor, visited);
+            }
+        } else if (value instanceof Either) {
+            final Either<?, ?> either = (Either<?, ?>) value;
+            walk(validator, either.isLeft() ? either.getLeft() : either.get(), null, null, visitor, visited);
+        } else if (value instanceof Tuple) {
+            walkAll(validator, ((Tuple) value).toSeq(), visitor, visited);
+        } else if (value instanceof Traversable) {
+            if (((Traversable<?>) value).hasDefiniteSize()) {
+                walkAll(validator, (Traversable<?>) value, visitor, visited);
+            }
+        } else if (value instanceof Iterable) {
+            walkAll(validator, (Iterable<?>) value, visitor, visited);
+        } else if (value instanceof java.util.Map) {
+            walkAll(validator, ((java.util.Map<?, ?>) value).keySet(), visitor, visited);
+            walkAll(validator, ((java.util.Map<?, ?>) value).values(), visitor, visited);
+        } else if (value instanceof Object[]) {
+            walkAll(validator, Arrays.asList((Object[]) value), visitor, visited);
+        } else {
+            walkProperties(validator, value, visitor, visited);
+        }
+    }
+
+    private static void walkAll(Validator validator, Iterable<?> values, Visitor visitor, Set<Object> visited) {
+        for (Object value : values) {
+            walk(validator, value, null, null, visitor, visited);
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+
+        /**
+         * @param value a value reachable from the bean walked
+         * @param owner the bean {@code value} is a property of, {@code null} if it is an element of a container
+         * @param property the name of that property, {@code null} if it is an element of a container
+         * @return whether to walk into {@code value}
+         */
+        boolean visit(Object value, Object owner, String property);
+    }
+}
@@ -0,0 +1,58 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.cfg.context.ConstraintDefinitionContext;
+
+import javax.validation.Configuration;
+import javax.validation.ConstraintValidator;
+import java.lang.annotation.Annotation;
+
+/**
+ * Adds constraint validators with the API of Hibernate Validator. Only loaded if that is the provider, as it is an
+ * optional dependency.
+ */
+final class HibernateConstraintMapping {
+
+    private HibernateConstraintMapping() {
+    }
+
+    static void addTo(Configuration<?> configuration,
+                      Map<Class<? extends Annotation>, List<Class<? extends ConstraintValidator<?, ?>>>> validators) {
+        final HibernateValidatorConfiguration hibernate = (HibernateValidatorConfiguration) configuration;
+        final ConstraintMapping mapping = hibernate.createConstraintMapping();
+        validators.forEach((constraint, validatorTypes) -> define(mapping, constraint, validatorTypes));
+        hibernate.addMapping(mapping);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void define(ConstraintMapping mapping, Class<? extends Annotation> constraint,
+                               List<Class<? extends ConstraintValidator<?, ?>>> validatorTypes) {
+        ConstraintDefinitionContext definition = mapping.constraintDefinition(constraint)
+                .includeExistingValidators(true);
+        for (Class<? extends ConstraintValidator<?, ?>> validatorType : validatorTypes) {
+            definition = definition.validatedBy((Class) validatorType);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers, per object identity, the contexts in which an object was found valid. Objects are weakly referenced.
+ * An object is forgotten when it is garbage collected, when it was last recorded more than the expiry ago, or
+ * when more than the maximum number of objects are remembered, least recently used first.
+ */
+final class IdentityResultCache {
+
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private final LinkedHashMap<IdentityKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    IdentityResultCache(int maximumSize, long expireAfterWriteNanos, LongSupplier ticker) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize < 0");
+        }
+        if (expireAfterWriteNanos < 0) {
+            throw new IllegalArgumentException("expireAfterWrite < 0");
+        }
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.ticker = ticker;
+    }
+
+    synchronized boolean isValid(Object object, Object context) {
+        expungeCollected();
+        final IdentityKey key = new IdentityKey(object, null);
+        final Entry entry = entries.get(key);
+        if (entry != null && ticker.getAsLong() - entry.writtenAt >= expireAfterWriteNanos) {
+            entries.remove(key);
+            evictions.increment();
+        } else if (entry != null && entry.validContexts.contains(context)) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    synchronized void putValid(Object object, Object context) {
+        expungeCollected();
+        final IdentityKey key = new IdentityKey(object, collected);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(key, entry);
+        }
+        entry.validContexts.add(context);
+        entry.writtenAt = ticker.getAsLong();
+        final java.util.Iterator<IdentityKey> eldest = entries.keySet().iterator();
+        while (entries.size() > maximumSize) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    synchronized int size() {
+        expungeCollected();
+        return entries.size();
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void expungeCollected() {
+        for (Reference<?> ref = collected.poll(); ref != null; ref = collected.poll()) {
+            if (entries.remove(ref) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry {
+        final Set<Object> validContexts = new HashSet<>(4);
+        long writtenAt;
+    }
+
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof IdentityKey)) {
+                return false;
+            }
+            final Object referent = get();
+            return referent != null && referent == ((IdentityKey) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Reads a bean property the way a validation provider does: from the field of that name, or else from its
+ * getter, declared in the bean class or one of its superclasses, regardless of visibility.
+ */
+final class PropertyAccess {
+
+    private PropertyAccess() {
+    }
+
+    static Object read(Object bean, String property) {
+        for (Class<?> type = bean.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                final Field field = type.getDeclaredField(property);
+                field.setAccessible(true);
+                return field.get(bean);
+            } catch (NoSuchFieldException e) {
+                // try the getter, then the superclass
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read field " + property + " of " + type.getName(), e);
+            }
+            final String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+            for (String getter : new String[] { "get" + suffix, "is" + suffix }) {
+                try {
+                    final Method method = type.getDeclaredMethod(getter);
+                    method.setAccessible(true);
+                    return method.invoke(bean);
+                } catch (NoSuchMethodException e) {
+                    // try the next one
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException("Cannot invoke " + getter + " of " + type.getName(), e);
+                }
+            }
+        }
+        throw new IllegalArgumentException(bean.getClass().getName() + " has no property " + property);
+    }
+}
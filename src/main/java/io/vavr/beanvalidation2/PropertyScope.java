@@ -0,0 +1,108 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import javax.validation.Path;
+import javax.validation.TraversableResolver;
+import java.lang.annotation.ElementType;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A {@link TraversableResolver} that can restrict a validation to a single property of the validated bean, for
+ * the duration of an action on the current thread. The other properties of that bean are neither checked nor
+ * cascaded into. Everything else is left to the delegate.
+ */
+final class PropertyScope implements TraversableResolver {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private final TraversableResolver delegate;
+
+    PropertyScope(TraversableResolver delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate is null");
+    }
+
+    /**
+     * Runs {@code action}, reaching only {@code property} of {@code bean} if {@code bean} is validated by a
+     * validator that uses a {@code PropertyScope}.
+     *
+     * @param bean the validated bean, compared by identity
+     * @param property the name of the property to reach
+     * @param action e.g. {@code () -> validator.validate(bean)}
+     * @param <R> the result type
+     * @return the result of {@code action}
+     */
+    static <R> R only(Object bean, String property, Supplier<R> action) {
+        final Scope previous = SCOPE.get();
+        SCOPE.set(new Scope(bean, property));
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                SCOPE.remove();
+            } else {
+                SCOPE.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                               Path pathToTraversableObject, ElementType elementType) {
+        return isInScope(traversableObject, traversableProperty, pathToTraversableObject)
+                && delegate.isReachable(traversableObject, traversableProperty, rootBeanType,
+                pathToTraversableObject, elementType);
+    }
+
+    @Override
+    public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                                Path pathToTraversableObject, ElementType elementType) {
+        return isInScope(traversableObject, traversableProperty, pathToTraversableObject)
+                && delegate.isCascadable(traversableObject, traversableProperty, rootBeanType,
+                pathToTraversableObject, elementType);
+    }
+
+    private static boolean isInScope(Object traversableObject, Path.Node traversableProperty, Path path) {
+        final Scope scope = SCOPE.get();
+        return scope == null || traversableObject != scope.bean || !isRoot(path)
+                || scope.property.equals(traversableProperty.getName());
+    }
+
+    private static boolean isRoot(Path path) {
+        for (Path.Node node : path) {
+            if (node.getName() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Scope {
+
+        final Object bean;
+        final String property;
+
+        Scope(Object bean, String property) {
+            this.bean = bean;
+            this.property = property;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ElementKind;
+import javax.validation.Path;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A copy of a violation whose property path points to other indices of the same containers.
+ */
+final class ReindexedViolation<T> implements ConstraintViolation<T> {
+
+    private final ConstraintViolation<T> violation;
+    private final ReindexedPath path;
+
+    /**
+     * @param violation the violation to copy
+     * @param nodes the nodes of its property path
+     * @param indices the new indices by node position
+     */
+    ReindexedViolation(ConstraintViolation<T> violation, List<Path.Node> nodes, Map<Integer, Integer> indices) {
+        this.violation = violation;
+        final List<Path.Node> reindexed = new ArrayList<>(nodes.size());
+        for (int position = 0; position < nodes.size(); position++) {
+            final Path.Node node = nodes.get(position);
+            final Integer index = indices.containsKey(position) ? indices.get(position) : node.getIndex();
+            // the index of a node is rendered by the preceding one, e.g. "names[1].<sequence element>"
+            final Path.Node next = position + 1 < nodes.size() ? nodes.get(position + 1) : null;
+            final String string = next != null && indices.containsKey(position + 1)
+                    ? replaceLast(node.toString(), "[" + next.getIndex() + "]", "[" + indices.get(position + 1) + "]")
+                    : node.toString();
+            reindexed.add(new ReindexedNode(node, index, string));
+        }
+        this.path = new ReindexedPath(Collections.unmodifiableList(reindexed));
+    }
+
+    private static String replaceLast(String string, String target, String replacement) {
+        final int start = string.lastIndexOf(target);
+        return start < 0
+                ? string
+                : string.substring(0, start) + replacement + string.substring(start + target.length());
+    }
+
+    @Override
+    public String getMessage() {
+        return violation.getMessage();
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return violation.getMessageTemplate();
+    }
+
+    @Override
+    public T getRootBean() {
+        return violation.getRootBean();
+    }
+
+    @Override
+    public Class<T> getRootBeanClass() {
+        return violation.getRootBeanClass();
+    }
+
+    @Override
+    public Object getLeafBean() {
+        return violation.getLeafBean();
+    }
+
+    @Override
+    public Object[] getExecutableParameters() {
+        return violation.getExecutableParameters();
+    }
+
+    @Override
+    public Object getExecutableReturnValue() {
+        return violation.getExecutableReturnValue();
+    }
+
+    @Override
+    public Path getPropertyPath() {
+        return path;
+    }
+
+    @Override
+    public Object getInvalidValue() {
+        return violation.getInvalidValue();
+    }
+
+    @Override
+    public ConstraintDescriptor<?> getConstraintDescriptor() {
+        return violation.getConstraintDescriptor();
+    }
+
+    @Override
+    public <U> U unwrap(Class<U> type) {
+        return violation.unwrap(type);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ConstraintViolation)) {
+            return false;
+        }
+        final ConstraintViolation<?> that = (ConstraintViolation<?>) obj;
+        return getRootBean() == that.getRootBean()
+                && getLeafBean() == that.getLeafBean()
+                && getInvalidValue() == that.getInvalidValue()
+                && Objects.equals(getMessage(), that.getMessage())
+                && Objects.equals(getConstraintDescriptor(), that.getConstraintDescriptor())
+                && path.toString().equals(String.valueOf(that.getPropertyPath()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getMessage(), path.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ConstraintViolation{propertyPath=" + path + ", message='" + getMessage() + "'}";
+    }
+
+    private static final class ReindexedPath implements Path {
+
+        private final List<Node> nodes;
+
+        ReindexedPath(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        public Iterator<Node> iterator() {
+            return nodes.iterator();
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder();
+            for (Node node : nodes) {
+                final String string = node.toString();
+                if (!string.isEmpty()) {
+                    if (builder.length() > 0) {
+                        builder.append('.');
+                    }
+                    builder.append(string);
+                }
+            }
+            return builder.toString();
+        }
+    }
+
+    private static final class ReindexedNode implements Path.PropertyNode, Path.ContainerElementNode, Path.BeanNode {
+
+        private final Path.Node node;
+        private final Integer index;
+        private final String string;
+
+        ReindexedNode(Path.Node node, Integer index, String string) {
+            this.node = node;
+            this.index = index;
+            this.string = string;
+        }
+
+        @Override
+        public String getName() {
+            return node.getName();
+        }
+
+        @Override
+        public boolean isInIterable() {
+            return node.isInIterable();
+        }
+
+        @Override
+        public Integer getIndex() {
+            return index;
+        }
+
+        @Override
+        public Object getKey() {
+            return node.getKey();
+        }
+
+        @Override
+        public ElementKind getKind() {
+            return node.getKind();
+        }
+
+        @Override
+        public Class<?> getContainerClass() {
+            switch (node.getKind()) {
+                case PROPERTY:
+                    return node.as(Path.PropertyNode.class).getContainerClass();
+                case CONTAINER_ELEMENT:
+                    return node.as(Path.ContainerElementNode.class).getContainerClass();
+                case BEAN:
+                    return node.as(Path.BeanNode.class).getContainerClass();
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public Integer getTypeArgumentIndex() {
+            switch (node.getKind()) {
+                case PROPERTY:
+                    return node.as(Path.PropertyNode.class).getTypeArgumentIndex();
+                case CONTAINER_ELEMENT:
+                    return node.as(Path.ContainerElementNode.class).getTypeArgumentIndex();
+                case BEAN:
+                    return node.as(Path.BeanNode.class).getTypeArgumentIndex();
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public <N extends Path.Node> N as(Class<N> nodeType) {
+            // throws a ClassCastException if the kind does not match, like the node copied
+            final N original = node.as(nodeType);
+            return nodeType.isInstance(this) ? nodeType.cast(this) : original;
+        }
+
+        @Override
+        public String toString() {
+            return string;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.collection.Array;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Queue;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Vector;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * Values of vavr types to validate in place of real ones, see {@link VavrValidation#warmUp}. The containers hold a
+ * single {@code null} element, which every validator accepts as input.
+ */
+final class SyntheticValues {
+
+    private static final List<Object> SAMPLES = List.of(
+            List.of((Object) null),
+            Vector.of((Object) null),
+            Array.of((Object) null),
+            Queue.of((Object) null),
+            Stream.of((Object) null),
+            CharSeq.empty(),
+            HashSet.of((Object) null),
+            HashMap.of(null, null),
+            HashMultimap.withSeq().of(null, null),
+            Option.some(null),
+            Either.right(null),
+            Try.success(null),
+            Future.successful(null),
+            evaluated(Lazy.of(() -> null))
+    );
+
+    private SyntheticValues() {
+    }
+
+    /**
+     * Creates a value of {@code type}, if it is a vavr type that has a value this class knows.
+     */
+    static Option<Object> of(Class<?> type) {
+        if (Tuple.class.isAssignableFrom(type) && !Modifier.isAbstract(type.getModifiers())) {
+            return tuple(type);
+        }
+        return SAMPLES.find(type::isInstance);
+    }
+
+    private static Option<Object> tuple(Class<?> type) {
+        // Tuple1 to Tuple8 have a single constructor taking their elements
+        final Object[] elements = new Object[type.getTypeParameters().length];
+        return Try.of(() -> type.getConstructors()[0].newInstance(elements)).toOption().map(Object.class::cast);
+    }
+
+    private static Lazy<?> evaluated(Lazy<?> lazy) {
+        lazy.get();
+        return lazy;
+    }
+}
@@ -0,0 +1,276 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.beanvalidation2.valueextraction.FutureValueExtractor;
+import io.vavr.collection.List;
+import io.vavr.collection.Traversable;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Either;
+
+import javax.validation.Configuration;
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates beans holding {@code Future}s without blocking on them.
+ * <p>
+ * {@link #validateAsync(Object, Class[])} validates the bean right away, skipping the elements of futures that
+ * have not completed yet. Once these futures have completed, only the properties holding them are validated again
+ * on the given executor, and their violations replace the ones of the first pass. A property is re-validated with
+ * {@link Validator#validateProperty}, unless it cascades, which {@code validateProperty} does not do; then the
+ * whole bean is validated again and only the violations of such properties are kept, as all of them are if no
+ * property holds one of the futures any more. Futures still pending in that pass, e.g. ones a getter creates anew
+ * on every call, are waited for as well, up to a maximum number of passes. The bean should not be modified while
+ * its validation is in flight.
+ * <p>
+ * The validator must use {@link FutureValueExtractor}, which is not registered by default, see
+ * {@link #configure(Configuration)}.
+ */
+public final class VavrAsyncValidator {
+
+    private static final int DEFAULT_MAX_PASSES = 4;
+
+    private final Validator validator;
+    private final Executor executor;
+    private final int maxPasses;
+
+    /**
+     * Validates in at most 4 passes.
+     *
+     * @param validator a validator that uses {@link FutureValueExtractor}
+     * @param executor runs the passes after the first one
+     */
+    public VavrAsyncValidator(Validator validator, Executor executor) {
+        this(validator, executor, DEFAULT_MAX_PASSES);
+    }
+
+    /**
+     * @param validator a validator that uses {@link FutureValueExtractor}
+     * @param executor runs the passes after the first one
+     * @param maxPasses the number of passes after which futures that are still pending fail the validation,
+     *                  at least 2
+     */
+    public VavrAsyncValidator(Validator validator, Executor executor, int maxPasses) {
+        if (maxPasses < 2) {
+            throw new IllegalArgumentException("maxPasses < 2");
+        }
+        this.validator = Objects.requireNonNull(validator, "validator is null");
+        this.executor = Objects.requireNonNull(executor, "executor is null");
+        this.maxPasses = maxPasses;
+    }
+
+    /**
+     * Registers {@link FutureValueExtractor} with {@code configuration}, so that the validators it builds skip
+     * pending futures instead of blocking on them.
+     *
+     * @param configuration the configuration of the validator factory to build
+     * @param <C> the configuration type
+     * @return {@code configuration}
+     */
+    public static <C extends Configuration<?>> C configure(C configuration) {
+        configuration.addValueExtractor(new FutureValueExtractor());
+        return configuration;
+    }
+
+    /**
+     * Validates all constraints on {@code bean}, waiting for pending futures without blocking.
+     *
+     * @param bean the bean to validate
+     * @param groups the groups to validate, {@code Default} if none are given
+     * @param <T> the bean type
+     * @return a future of all constraint violations, which never completes if one of the futures never does, and
+     * fails with an {@code IllegalStateException} if futures are still pending after the last pass
+     */
+    public <T> Future<Set<ConstraintViolation<T>>> validateAsync(T bean, Class<?>... groups) {
+        Objects.requireNonNull(bean, "bean is null");
+        final Tuple2<Set<ConstraintViolation<T>>, List<Future<?>>> first =
+                FutureValueExtractor.trackPending(() -> validator.validate(bean, groups));
+        return revalidate(bean, groups, first._1, first._2, 1);
+    }
+
+    private <T> Future<Set<ConstraintViolation<T>>> revalidate(T bean, Class<?>[] groups,
+                                                               Set<ConstraintViolation<T>> violations,
+                                                               List<Future<?>> pending, int passes) {
+        if (pending.isEmpty()) {
+            return Future.successful(executor, violations);
+        }
+        if (passes == maxPasses) {
+            return Future.failed(executor, new IllegalStateException(
+                    pending.size() + " futures still pending after " + passes + " passes"));
+        }
+        return allCompleted(pending).flatMap(ignored -> {
+            final Tuple2<Set<ConstraintViolation<T>>, List<Future<?>>> pass = FutureValueExtractor.trackPending(
+                    () -> validatePending(bean, groups, violations, pending));
+            return revalidate(bean, groups, pass._1, pass._2, passes + 1);
+        });
+    }
+
+    /**
+     * Validates the properties of {@code bean} holding one of the completed {@code futures} again and replaces
+     * their violations in {@code previous}.
+     */
+    private <T> Set<ConstraintViolation<T>> validatePending(T bean, Class<?>[] groups,
+                                                           Set<ConstraintViolation<T>> previous,
+                                                           List<Future<?>> futures) {
+        final Set<Object> completed = Collections.newSetFromMap(new IdentityHashMap<>());
+        completed.addAll(futures.asJava());
+        final Set<String> properties = new HashSet<>();
+        final Set<String> cascading = new HashSet<>();
+        for (PropertyDescriptor property : validator.getConstraintsForClass(bean.getClass())
+                .getConstrainedProperties()) {
+            final Object value = PropertyAccess.read(bean, property.getPropertyName());
+            if (holdsAny(value, completed, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+                properties.add(property.getPropertyName());
+                if (cascades(property.isCascaded(), property.getConstrainedContainerElementTypes())) {
+                    cascading.add(property.getPropertyName());
+                }
+            }
+        }
+        if (properties.isEmpty()) {
+            // e.g. a getter that creates a new future on every call
+            return validator.validate(bean, groups);
+        }
+        final Set<ConstraintViolation<T>> violations = new LinkedHashSet<>();
+        for (ConstraintViolation<T> violation : previous) {
+            if (!properties.contains(propertyOf(violation))) {
+                violations.add(violation);
+            }
+        }
+        for (String property : properties) {
+            if (!cascading.contains(property)) {
+                violations.addAll(validator.validateProperty(bean, property, groups));
+            }
+        }
+        if (!cascading.isEmpty()) {
+            for (ConstraintViolation<T> violation : validator.validate(bean, groups)) {
+                if (cascading.contains(propertyOf(violation))) {
+                    violations.add(violation);
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static String propertyOf(ConstraintViolation<?> violation) {
+        final Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+        return nodes.hasNext() ? nodes.next().getName() : null;
+    }
+
+    private static boolean cascades(boolean cascaded, Iterable<ContainerElementTypeDescriptor> elements) {
+        if (cascaded) {
+            return true;
+        }
+        for (ContainerElementTypeDescriptor element : elements) {
+            if (cascades(element.isCascaded(), element.getConstrainedContainerElementTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests if one of {@code futures} is reachable from {@code value}, through the elements of containers and the
+     * constrained properties of beans.
+     */
+    private boolean holdsAny(Object value, Set<Object> futures, Set<Object> visited) {
+        if (value == null || !visited.add(value)) {
+            return false;
+        }
+        if (futures.contains(value)) {
+            return true;
+        }
+        if (value instanceof Future) {
+            final Future<?> future = (Future<?>) value;
+            return future.isSuccess() && holdsAny(future.get(), futures, visited);
+        }
+        if (value instanceof Lazy) {
+            final Lazy<?> lazy = (Lazy<?>) value;
+            return lazy.isEvaluated() && holdsAny(lazy.get(), futures, visited);
+        }
+        if (value instanceof Either) {
+            final Either<?, ?> either = (Either<?, ?>) value;
+            return holdsAny(either.isLeft() ? either.getLeft() : either.get(), futures, visited);
+        }
+        if (value instanceof Tuple) {
+            return holdsAnyOf(((Tuple) value).toSeq(), futures, visited);
+        }
+        if (value instanceof Traversable) {
+            return ((Traversable<?>) value).hasDefiniteSize() && holdsAnyOf((Traversable<?>) value, futures, visited);
+        }
+        if (value instanceof Iterable) {
+            return holdsAnyOf((Iterable<?>) value, futures, visited);
+        }
+        if (value instanceof java.util.Map) {
+            final java.util.Map<?, ?> map = (java.util.Map<?, ?>) value;
+            return holdsAnyOf(map.keySet(), futures, visited) || holdsAnyOf(map.values(), futures, visited);
+        }
+        if (value instanceof Object[]) {
+            return holdsAnyOf(Arrays.asList((Object[]) value), futures, visited);
+        }
+        final BeanDescriptor bean = validator.getConstraintsForClass(value.getClass());
+        for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+            if (holdsAny(PropertyAccess.read(value, property.getPropertyName()), futures, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean holdsAnyOf(Iterable<?> values, Set<Object> futures, Set<Object> visited) {
+        for (Object value : values) {
+            if (holdsAny(value, futures, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Future<Void> allCompleted(List<Future<?>> futures) {
+        final Promise<Void> promise = Promise.make(executor);
+        final AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (Future<?> future : futures) {
+            future.onComplete(ignored -> {
+                if (remaining.decrementAndGet() == 0) {
+                    promise.success(null);
+                }
+            });
+        }
+        return promise.future();
+    }
+}
@@ -0,0 +1,157 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.collection.TreeMap;
+import io.vavr.control.Validation;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Validates many beans concurrently, returning vavr structures.
+ * <p>
+ * At most {@code parallelism} beans are validated at the same time, each by a worker that takes the next bean
+ * only when it is done with the previous one. So no more than {@code parallelism} tasks are ever submitted to the
+ * executor, which can be any {@link Executor}, e.g. a virtual thread per task executor on JDK 21+. The calling
+ * thread waits until all beans are validated.
+ */
+public final class VavrBatchValidator {
+
+    private final Validator validator;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * @param validator the validator to delegate to
+     * @param executor runs the workers
+     * @param parallelism the maximum number of beans validated at the same time
+     */
+    public VavrBatchValidator(Validator validator, Executor executor, int parallelism) {
+        this.validator = Objects.requireNonNull(validator, "validator is null");
+        this.executor = Objects.requireNonNull(executor, "executor is null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism < 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Validates all constraints on each of {@code beans}.
+     *
+     * @param beans the beans to validate, none of them {@code null}
+     * @param groups the groups to validate, {@code Default} if none are given
+     * @param <T> the bean type
+     * @return the violations of each invalid bean, by its index in {@code beans}, in ascending order
+     * @throws ValidationException if a validation failed or the calling thread was interrupted
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<Integer, Seq<ConstraintViolation<T>>> validateAll(Seq<T> beans, Class<?>... groups) {
+        final Object[] results = run(beans, groups);
+        Map<Integer, Seq<ConstraintViolation<T>>> violations = TreeMap.empty();
+        for (int index = 0; index < results.length; index++) {
+            if (results[index] != null) {
+                violations = violations.put(index, (Seq<ConstraintViolation<T>>) results[index]);
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Validates all constraints on each of {@code beans}.
+     *
+     * @param beans the beans to validate, none of them {@code null}
+     * @param groups the groups to validate, {@code Default} if none are given
+     * @param <T> the bean type
+     * @return for each bean, in the order of {@code beans}, either its violations or the bean if it is valid
+     * @throws ValidationException if a validation failed or the calling thread was interrupted
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Seq<Validation<Seq<ConstraintViolation<T>>, T>> validateEach(Seq<T> beans, Class<?>... groups) {
+        final Object[] results = run(beans, groups);
+        return Array.of(results).zipWith(beans, (result, bean) -> result == null
+                ? Validation.valid(bean)
+                : Validation.invalid((Seq<ConstraintViolation<T>>) result));
+    }
+
+    /**
+     * Returns the violations of each bean as an {@code Array}, or {@code null} for a valid bean.
+     */
+    private <T> Object[] run(Seq<T> beans, Class<?>[] groups) {
+        Objects.requireNonNull(beans, "beans is null");
+        final Object[] results = new Object[beans.size()];
+        final Iterator<T> pending = beans.iterator();
+        final int[] next = { 0 };
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final int workers = Math.min(parallelism, results.length);
+        final CountDownLatch done = new CountDownLatch(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            executor.execute(() -> {
+                try {
+                    while (failure.get() == null) {
+                        final T bean;
+                        final int index;
+                        synchronized (pending) {
+                            if (!pending.hasNext()) {
+                                return;
+                            }
+                            bean = pending.next();
+                            index = next[0]++;
+                        }
+                        final Set<ConstraintViolation<T>> violations = validator.validate(bean, groups);
+                        if (!violations.isEmpty()) {
+                            results[index] = Array.ofAll(violations);
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            failure.compareAndSet(null, e);
+            Thread.currentThread().interrupt();
+            throw new ValidationException("Interrupted while validating a batch", e);
+        }
+        final Throwable thrown = failure.get();
+        if (thrown instanceof RuntimeException) {
+            throw (RuntimeException) thrown;
+        } else if (thrown instanceof Error) {
+            throw (Error) thrown;
+        } else if (thrown != null) {
+            throw new ValidationException(thrown);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,195 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.beanvalidation2.valueextraction.ExtractionScope;
+import io.vavr.collection.List;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.metadata.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Validates beans, skipping the elements of vavr containers that were already found valid.
+ * <p>
+ * Immutable payloads often pass through validation more than once. This validator remembers each {@code Seq},
+ * {@code Map}, {@code Multimap}, {@code Either} and {@code Tuple} instance whose elements had no violations, keyed
+ * by identity, together with the bean class, property and groups it was validated for. When the same instance is
+ * met again in the same place, its elements are not extracted, so neither their constraints are checked nor are
+ * they cascaded into. An instance that also occurs in another place, e.g. within another container, is validated
+ * as usual. Property level constraints, like {@code @Size}, are always checked. Containers with element
+ * violations are not remembered, so their violations are reported every time.
+ * <p>
+ * Containers are looked for in the properties of the validated bean and of the beans it cascades to through
+ * properties that are not containers themselves. The elements of a remembered container, and the beans they
+ * cascade to, must not change while it is remembered.
+ * <p>
+ * The instances are weakly referenced. At most {@code maximumSize} of them are remembered, the least recently
+ * used is forgotten first, and each is forgotten {@code expireAfterWrite} after it was last found valid.
+ */
+public final class VavrCachingValidator {
+
+    private final Validator validator;
+    private final IdentityResultCache cache;
+
+    /**
+     * @param validator the validator to delegate to
+     * @param maximumSize the maximum number of container instances to remember
+     * @param expireAfterWrite how long to remember a container instance
+     * @param unit the unit of {@code expireAfterWrite}
+     */
+    public VavrCachingValidator(Validator validator, int maximumSize, long expireAfterWrite, TimeUnit unit) {
+        this(validator, maximumSize, unit.toNanos(expireAfterWrite), System::nanoTime);
+    }
+
+    VavrCachingValidator(Validator validator, int maximumSize, long expireAfterWriteNanos, LongSupplier ticker) {
+        this.validator = Objects.requireNonNull(validator, "validator is null");
+        this.cache = new IdentityResultCache(maximumSize, expireAfterWriteNanos, ticker);
+    }
+
+    /**
+     * Validates all constraints on {@code object}, like {@link Validator#validate(Object, Class[])}.
+     *
+     * @param object the object to validate
+     * @param groups the groups to validate, {@code Default} if none are given
+     * @param <T> the type of the object to validate
+     * @return the violations found
+     */
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        Objects.requireNonNull(object, "object is null");
+        final List<Class<?>> groupList = List.of(groups);
+        final java.util.List<Candidate> candidates = new ArrayList<>();
+        collect(object, List.empty(), groupList, candidates, Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        // a container is skipped only if it is known to be valid in every place it occurs, which includes the
+        // places that are no candidates, like the elements of other containers, as it is excluded by identity
+        final IdentityHashMap<Object, Boolean> skip = new IdentityHashMap<>();
+        for (Candidate candidate : candidates) {
+            candidate.hit = cache.isValid(candidate.container, candidate.context);
+            skip.merge(candidate.container, candidate.hit, Boolean::logicalAnd);
+        }
+        skip.values().removeIf(hit -> !hit);
+        if (!skip.isEmpty()) {
+            final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            visited.add(object);
+            Containers.walkProperties(validator, object, (value, owner, property) -> {
+                if (!skip.containsKey(value)) {
+                    return true;
+                }
+                if (isCandidate(candidates, value, owner, property)) {
+                    return false;
+                }
+                skip.remove(value);
+                return true;
+            }, visited);
+        }
+
+        final Set<ConstraintViolation<T>> violations = skip.isEmpty()
+                ? validator.validate(object, groups)
+                : ExtractionScope.exclude(skip.keySet(), () -> validator.validate(object, groups));
+
+        for (Candidate candidate : candidates) {
+            if (!candidate.hit
+                    && violations.stream().noneMatch(violation -> Containers.isWithin(violation, candidate.path))) {
+                cache.putValid(candidate.container, candidate.context);
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * @return the number of container instances found in the cache
+     */
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    /**
+     * @return the number of container instances not found in the cache
+     */
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    /**
+     * @return the number of container instances forgotten because of size, age or garbage collection
+     */
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    private static boolean isCandidate(java.util.List<Candidate> candidates, Object container, Object owner,
+                                       String property) {
+        for (Candidate candidate : candidates) {
+            if (candidate.container == container && candidate.owner == owner && candidate.property.equals(property)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void collect(Object bean, List<String> path, List<Class<?>> groups, java.util.List<Candidate> candidates,
+                         Set<Object> visited) {
+        if (!visited.add(bean)) {
+            return;
+        }
+        for (PropertyDescriptor property : validator.getConstraintsForClass(bean.getClass())
+                .getConstrainedProperties()) {
+            final Object value = PropertyAccess.read(bean, property.getPropertyName());
+            if (value == null) {
+                continue;
+            }
+            final List<String> propertyPath = path.append(property.getPropertyName());
+            if (Containers.isExtracted(value)) {
+                if (Containers.isTraversed(property)) {
+                    final Object context = List.of(bean.getClass(), property.getPropertyName(), groups);
+                    candidates.add(new Candidate(value, bean, property.getPropertyName(), context, propertyPath));
+                }
+            } else if (property.isCascaded()) {
+                collect(value, propertyPath, groups, candidates, visited);
+            }
+        }
+    }
+
+    private static final class Candidate {
+
+        final Object container;
+        final Object owner;
+        final String property;
+        final Object context;
+        final List<String> path;
+        boolean hit;
+
+        Candidate(Object container, Object owner, String property, Object context, List<String> path) {
+            this.container = container;
+            this.owner = owner;
+            this.property = property;
+            this.context = context;
+            this.path = path;
+        }
+    }
+}
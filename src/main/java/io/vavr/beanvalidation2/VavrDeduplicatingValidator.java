@@ -0,0 +1,165 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.beanvalidation2.valueextraction.SeqDuplicates;
+import io.vavr.beanvalidation2.valueextraction.SeqValueExtractor;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ElementKind;
+import javax.validation.Path;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Validates beans, validating an element instance that occurs at several indices of a {@code Seq} only once.
+ * <p>
+ * Sequences built by {@code fill}, by padding or from shared defaults often hold the same instance many times.
+ * This validator extracts each instance only at the first index it occurs, and reports a copy of each of its
+ * violations for every other index, with the property path pointing to that index. The result equals the one of
+ * {@link Validator#validate(Object, Class[])}, provided the validated elements do not depend on their index.
+ * Constraints on nested containers, e.g. {@code Vector<Vector<@NotNull Integer>>}, are copied to every
+ * combination of duplicate indices. Violations found by cascading into an element are not copied, as the
+ * validation provider cascades into a bean instance only once per group anyway.
+ */
+public final class VavrDeduplicatingValidator {
+
+    private static final Object UNKNOWN = new Object();
+
+    private final Validator validator;
+
+    /**
+     * @param validator a validator that uses {@link SeqValueExtractor}, which this module registers by default
+     */
+    public VavrDeduplicatingValidator(Validator validator) {
+        this.validator = Objects.requireNonNull(validator, "validator is null");
+    }
+
+    /**
+     * Validates all constraints on {@code object}, like {@link Validator#validate(Object, Class[])}.
+     *
+     * @param object the object to validate
+     * @param groups the groups to validate, {@code Default} if none are given
+     * @param <T> the type of the object to validate
+     * @return the violations found
+     */
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        Objects.requireNonNull(object, "object is null");
+        final Tuple2<Set<ConstraintViolation<T>>, SeqDuplicates> result =
+                SeqValueExtractor.skipDuplicates(() -> validator.validate(object, groups));
+        if (result._2.isEmpty()) {
+            return result._1;
+        }
+        final Set<ConstraintViolation<T>> violations = new LinkedHashSet<>(result._1);
+        final java.util.Map<Seq<?>, Seq<?>> indexed = new IdentityHashMap<>();
+        for (ConstraintViolation<T> violation : result._1) {
+            copyToDuplicates(violation, result._2, indexed, violations);
+        }
+        return violations;
+    }
+
+    /**
+     * @param indexed the indexed copies of the sequences on the paths of the violations so far, by identity
+     */
+    private static <T> void copyToDuplicates(ConstraintViolation<T> violation, SeqDuplicates duplicates,
+                                             java.util.Map<Seq<?>, Seq<?>> indexed,
+                                             Set<ConstraintViolation<T>> violations) {
+        final List<Path.Node> nodes = new ArrayList<>();
+        violation.getPropertyPath().forEach(nodes::add);
+
+        // a bean is cascaded into once per group anyway, so only element constraints below the last bean count
+        int lastBean = -1;
+        for (int position = 0; position < nodes.size(); position++) {
+            if (nodes.get(position).getKind() != ElementKind.CONTAINER_ELEMENT) {
+                lastBean = position;
+            }
+        }
+
+        // follow the path from the root bean, noting which of its indices have duplicates
+        final List<Tuple2<Integer, io.vavr.collection.List<Integer>>> duplicateIndices = new ArrayList<>();
+        Object current = violation.getRootBean();
+        for (int position = 0; position < nodes.size() && current != UNKNOWN; position++) {
+            final Path.Node node = nodes.get(position);
+            if (node.getIndex() != null || node.getKey() != null) {
+                if (position > lastBean && current instanceof Seq && node.getIndex() != null) {
+                    final io.vavr.collection.List<Integer> indices =
+                            duplicates.of((Seq<?>) current, node.getIndex());
+                    if (!indices.isEmpty()) {
+                        duplicateIndices.add(Tuple.of(position, indices));
+                    }
+                }
+                current = element(current, node, indexed);
+            }
+            if (node.getKind() == ElementKind.PROPERTY && current != UNKNOWN) {
+                current = current == null ? UNKNOWN : PropertyAccess.read(current, node.getName());
+            }
+        }
+
+        // every combination of the original and the duplicate indices, but the original one for all positions
+        List<java.util.Map<Integer, Integer>> combinations = new ArrayList<>();
+        combinations.add(new HashMap<>());
+        for (Tuple2<Integer, io.vavr.collection.List<Integer>> position : duplicateIndices) {
+            final List<java.util.Map<Integer, Integer>> extended = new ArrayList<>(combinations);
+            for (java.util.Map<Integer, Integer> combination : combinations) {
+                for (Integer index : position._2) {
+                    final java.util.Map<Integer, Integer> reindexed = new HashMap<>(combination);
+                    reindexed.put(position._1, index);
+                    extended.add(reindexed);
+                }
+            }
+            combinations = extended;
+        }
+        for (java.util.Map<Integer, Integer> combination : combinations.subList(1, combinations.size())) {
+            violations.add(new ReindexedViolation<>(violation, nodes, combination));
+        }
+    }
+
+    private static Seq<?> indexed(Seq<?> seq) {
+        return seq instanceof IndexedSeq || !seq.hasDefiniteSize() ? seq : seq.toVector();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object element(Object container, Path.Node node, java.util.Map<Seq<?>, Seq<?>> indexed) {
+        if (container instanceof Seq && node.getIndex() != null) {
+            // a linear sequence is copied once, instead of being traversed up to the index for every violation
+            return indexed.computeIfAbsent((Seq<?>) container, VavrDeduplicatingValidator::indexed)
+                    .get(node.getIndex());
+        } else if (container instanceof Map && node.getKey() != null) {
+            return ((Map<Object, Object>) container).getOrElse(node.getKey(), UNKNOWN);
+        } else if (container instanceof java.util.List && node.getIndex() != null) {
+            return ((java.util.List<?>) container).get(node.getIndex());
+        } else if (container instanceof java.util.Map && node.getKey() != null) {
+            return ((java.util.Map<?, ?>) container).get(node.getKey());
+        } else {
+            return UNKNOWN;
+        }
+    }
+}
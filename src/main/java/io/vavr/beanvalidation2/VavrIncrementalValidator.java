@@ -0,0 +1,164 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.Tuple2;
+import io.vavr.beanvalidation2.valueextraction.ExtractionScope;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ElementKind;
+import javax.validation.Path;
+import javax.validation.Validator;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Re-validates a {@code Seq} or {@code Map} property after a change, running the container element constraints
+ * only on the elements that changed.
+ * <p>
+ * vavr collections are persistent: a new version of a collection shares the unchanged elements with the previous
+ * one. An index of a {@code Seq}, or a key of a {@code Map}, is considered changed if it holds a different
+ * instance than before, or for strings, boxed primitives and big numbers, a different value. The latter is
+ * needed because e.g. a {@code Vector} of ints boxes its elements on access. Violations on unchanged elements are
+ * taken over from the previous validation, with their original root bean. Violations of property level
+ * constraints, like {@code @Size}, are always computed anew. Like
+ * {@link Validator#validateProperty(Object, String, Class[])}, this does not cascade into elements.
+ */
+public final class VavrIncrementalValidator {
+
+    private static final io.vavr.collection.Set<Class<?>> VALUE_TYPES = io.vavr.collection.HashSet.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class
+    );
+
+    private static final Object ABSENT = new Object();
+
+    private final Validator validator;
+
+    public VavrIncrementalValidator(Validator validator) {
+        this.validator = Objects.requireNonNull(validator, "validator is null");
+    }
+
+    /**
+     * Validates {@code property} of {@code current}, reusing the violations of the same property of
+     * {@code previous}. Falls back to validating the whole property if it is neither a {@code Seq} nor a
+     * {@code Map} in both beans, or if it is lazy like a {@code Stream}.
+     *
+     * @param previous the previous version of the bean
+     * @param previousViolations the violations found for {@code previous} with the same groups, all properties
+     *                           but {@code property} are ignored
+     * @param current the bean to validate
+     * @param property the name of the {@code Seq} or {@code Map} property to validate
+     * @param groups the groups to validate, {@code Default} if none are given
+     * @param <T> the bean type
+     * @return the violations of {@code property} of {@code current}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Set<ConstraintViolation<T>> validateDelta(T previous, Set<ConstraintViolation<T>> previousViolations,
+                                                         T current, String property, Class<?>... groups) {
+        final Object before = PropertyAccess.read(previous, property);
+        final Object after = PropertyAccess.read(current, property);
+
+        if (before instanceof Seq && after instanceof Seq
+                && !((Seq<?>) before).isLazy() && !((Seq<?>) after).isLazy()) {
+            final Seq<?> seq = (Seq<?>) after;
+            final BitSet changed = changedIndices((Seq<?>) before, seq);
+            final int size = seq.size();
+            final Set<ConstraintViolation<T>> violations = ExtractionScope.restrictIndices(seq, changed,
+                    () -> validator.validateProperty(current, property, groups));
+            return merge(violations, previousViolations, property, node -> {
+                final Integer index = node.getIndex();
+                return index != null && index < size && !changed.get(index);
+            });
+        }
+        if (before instanceof Map && after instanceof Map) {
+            final Map<Object, ?> map = (Map<Object, ?>) after;
+            final Set<Object> changed = changedKeys((Map<Object, ?>) before, map);
+            final Set<ConstraintViolation<T>> violations = ExtractionScope.restrictKeys(map, changed,
+                    () -> validator.validateProperty(current, property, groups));
+            return merge(violations, previousViolations, property, node -> {
+                final Object key = node.getKey();
+                return key != null && map.containsKey(key) && !changed.contains(key);
+            });
+        }
+        return validator.validateProperty(current, property, groups);
+    }
+
+    private static BitSet changedIndices(Seq<?> before, Seq<?> after) {
+        final BitSet changed = new BitSet();
+        if (before == after) {
+            return changed;
+        }
+        final Iterator<?> previous = before.iterator();
+        int index = 0;
+        for (Object element : after) {
+            if (!previous.hasNext() || !isSame(previous.next(), element)) {
+                changed.set(index);
+            }
+            index++;
+        }
+        return changed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Object> changedKeys(Map<Object, ?> before, Map<Object, ?> after) {
+        final Set<Object> changed = new HashSet<>();
+        if (before == after) {
+            return changed;
+        }
+        for (Tuple2<Object, ?> entry : after) {
+            final Object previous = ((Map<Object, Object>) before).getOrElse(entry._1, ABSENT);
+            if (previous == ABSENT || !isSame(previous, entry._2)) {
+                changed.add(entry._1);
+            }
+        }
+        return changed;
+    }
+
+    private static boolean isSame(Object before, Object after) {
+        return before == after || (after != null && VALUE_TYPES.contains(after.getClass()) && after.equals(before));
+    }
+
+    private static <T> Set<ConstraintViolation<T>> merge(Set<ConstraintViolation<T>> violations,
+                                                         Set<ConstraintViolation<T>> previousViolations,
+                                                         String property, Predicate<Path.Node> unchanged) {
+        final Set<ConstraintViolation<T>> merged = new LinkedHashSet<>(violations);
+        for (ConstraintViolation<T> violation : previousViolations) {
+            final java.util.Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+            if (!nodes.hasNext() || !property.equals(nodes.next().getName()) || !nodes.hasNext()) {
+                continue;
+            }
+            final Path.Node element = nodes.next();
+            if (element.getKind() == ElementKind.CONTAINER_ELEMENT && unchanged.test(element)) {
+                merged.add(violation);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,130 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.beanvalidation2.constraints.MaxValidatedElements;
+import io.vavr.beanvalidation2.valueextraction.ExtractionScope;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Traversable;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Validates beans, validating at most the first {@code n} elements of the {@code Seq}, {@code Map} and
+ * {@code Multimap} properties annotated with {@link MaxValidatedElements @MaxValidatedElements(n)}.
+ * <p>
+ * This bounds the time spent on huge or infinite containers from untrusted input. The extraction of the elements
+ * stops at the limit, so a possibly infinite {@code Stream} is not evaluated any further, and the annotation
+ * reports how many elements were left out. Other properties are validated completely, and so is a limited
+ * container instance that occurs in another place as well, e.g. in a property without the annotation. A value
+ * extractor cannot tell which property a container belongs to, so the bean graph is walked once before it is
+ * validated to find the limited containers. A plain {@link Validator} validates all elements of an annotated
+ * property, and the annotation then reports nothing.
+ */
+public final class VavrLimitingValidator {
+
+    private static final Class<?>[] DEFAULT_GROUPS = { Default.class };
+
+    private final Validator validator;
+
+    /**
+     * @param validator the validator to delegate to
+     */
+    public VavrLimitingValidator(Validator validator) {
+        this.validator = Objects.requireNonNull(validator, "validator is null");
+    }
+
+    /**
+     * Validates all constraints on {@code object}, like {@link Validator#validate(Object, Class[])}, but only the
+     * first elements of the limited containers.
+     *
+     * @param object the object to validate
+     * @param groups the groups to validate, {@code Default} if none are given
+     * @param <T> the type of the object to validate
+     * @return the violations found
+     */
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        Objects.requireNonNull(object, "object is null");
+        final Limits limits = new Limits(groups.length == 0 ? DEFAULT_GROUPS : groups);
+        limits.visited.add(object);
+        Containers.walkProperties(validator, object, limits, limits.visited);
+        for (Object container : limits.unlimited) {
+            limits.maxElements.remove(container);
+        }
+        return limits.maxElements.isEmpty()
+                ? validator.validate(object, groups)
+                : ExtractionScope.limit(limits.maxElements, () -> validator.validate(object, groups));
+    }
+
+    /**
+     * Collects the limits of the containers the validation reaches, and the containers it reaches without one.
+     */
+    private final class Limits implements Containers.Visitor {
+
+        final Class<?>[] groups;
+        final IdentityHashMap<Object, Integer> maxElements = new IdentityHashMap<>();
+        final Set<Object> unlimited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Limits(Class<?>[] groups) {
+            this.groups = groups;
+        }
+
+        @Override
+        public boolean visit(Object value, Object owner, String property) {
+            final int max = owner == null ? -1 : maxValidatedElements(owner.getClass(), property);
+            if (max < 0 || !(value instanceof Seq || value instanceof Map || value instanceof Multimap)) {
+                unlimited.add(value);
+                return true;
+            }
+            // the greater limit of a container annotated twice, so that neither property validates less than it says
+            maxElements.merge(value, max, Math::max);
+            // only the extracted elements can hold further limited containers
+            for (Object element : ((Traversable<?>) value).take(max)) {
+                Containers.walk(validator, element, null, null, this, visited);
+            }
+            return false;
+        }
+
+        private int maxValidatedElements(Class<?> beanType, String property) {
+            final PropertyDescriptor descriptor = validator.getConstraintsForClass(beanType)
+                    .getConstraintsForProperty(property);
+            int max = -1;
+            for (ConstraintDescriptor<?> constraint : descriptor.findConstraints()
+                    .unorderedAndMatchingGroups(groups)
+                    .getConstraintDescriptors()) {
+                if (constraint.getAnnotation() instanceof MaxValidatedElements) {
+                    max = Math.max(max, ((MaxValidatedElements) constraint.getAnnotation()).value());
+                }
+            }
+            return max;
+        }
+    }
+}
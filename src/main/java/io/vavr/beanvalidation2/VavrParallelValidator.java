@@ -0,0 +1,207 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.beanvalidation2.valueextraction.ExtractionScope;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+
+import javax.validation.Configuration;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.metadata.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Validates beans, validating the elements of large {@code IndexedSeq} and {@code Map} properties, like
+ * {@code Vector<@Valid Order>}, in parallel.
+ * <p>
+ * A container property of the bean with at least {@code threshold} elements is split into chunks of consecutive
+ * indices, or of keys in iteration order, which for {@code Vector} and {@code HashMap} follows their trie. Each
+ * chunk is validated on the given pool, while the rest of the bean is validated on the calling thread. The
+ * violations have the same paths as with {@link Validator#validate(Object, Class[])}: the elements of the
+ * container, and the beans they cascade to, are validated as part of the bean.
+ * <p>
+ * The rest of the bean is validated once, with the large containers excluded. Each chunk validates only the
+ * property of its container, provided the validator was built from a configuration passed to
+ * {@link #configure(Configuration)}. Otherwise each chunk validates the bean with all other vavr containers of it
+ * excluded, so its properties that are not vavr containers are validated once per chunk, and their violations
+ * dropped. The bean must not be modified while it is validated.
+ */
+public final class VavrParallelValidator {
+
+    /**
+     * A {@code Vector} leaf holds 32 elements and each branch 32 children, so chunks of a multiple of
+     * 32 * 32 elements span whole subtrees of the second level.
+     */
+    private static final int CHUNK_ALIGNMENT = 32 * 32;
+
+    private final Validator validator;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * @param validator the validator to delegate to
+     * @param pool validates the chunks
+     * @param threshold the minimum number of elements of a container to validate in parallel
+     */
+    public VavrParallelValidator(Validator validator, ForkJoinPool pool, int threshold) {
+        this.validator = Objects.requireNonNull(validator, "validator is null");
+        this.pool = Objects.requireNonNull(pool, "pool is null");
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold < 1");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Sets a traversable resolver on {@code configuration} that delegates to its
+     * {@linkplain Configuration#getDefaultTraversableResolver() default one}, but lets the validators it builds
+     * restrict the validation of a chunk to the property of its container.
+     *
+     * @param configuration the configuration of the validator factory to build
+     * @param <C> the configuration type
+     * @return {@code configuration}
+     */
+    public static <C extends Configuration<?>> C configure(C configuration) {
+        configuration.traversableResolver(new PropertyScope(configuration.getDefaultTraversableResolver()));
+        return configuration;
+    }
+
+    /**
+     * Validates all constraints on {@code object}, like {@link Validator#validate(Object, Class[])}.
+     *
+     * @param object the object to validate
+     * @param groups the groups to validate, {@code Default} if none are given
+     * @param <T> the type of the object to validate
+     * @return the violations found
+     */
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        Objects.requireNonNull(object, "object is null");
+        final java.util.List<Object> containers = new ArrayList<>();
+        final java.util.List<String> largeProperties = new ArrayList<>();
+        final java.util.List<Object> largeContainers = new ArrayList<>();
+        for (PropertyDescriptor property : validator.getConstraintsForClass(object.getClass())
+                .getConstrainedProperties()) {
+            final Object value = PropertyAccess.read(object, property.getPropertyName());
+            if (!Containers.isExtracted(value)) {
+                continue;
+            }
+            containers.add(value);
+            if (isLarge(value) && Containers.isTraversed(property)) {
+                largeProperties.add(property.getPropertyName());
+                largeContainers.add(value);
+            }
+        }
+        if (largeContainers.isEmpty()) {
+            return validator.validate(object, groups);
+        }
+
+        final java.util.List<ForkJoinTask<java.util.List<ConstraintViolation<T>>>> tasks = new ArrayList<>();
+        for (int i = 0; i < largeContainers.size(); i++) {
+            final String property = largeProperties.get(i);
+            final Object container = largeContainers.get(i);
+            final java.util.List<Object> others = new ArrayList<>(containers);
+            others.removeIf(other -> other == container);
+            for (Restriction chunk : chunks(container)) {
+                tasks.add(pool.submit(() -> {
+                    final Set<ConstraintViolation<T>> violations = PropertyScope.only(object, property,
+                            () -> ExtractionScope.exclude(others,
+                                    () -> chunk.apply(() -> validator.validate(object, groups))));
+                    final java.util.List<ConstraintViolation<T>> elementViolations = new ArrayList<>();
+                    for (ConstraintViolation<T> violation : violations) {
+                        if (Containers.isWithin(violation, List.of(property))) {
+                            elementViolations.add(violation);
+                        }
+                    }
+                    return elementViolations;
+                }));
+            }
+        }
+
+        final Set<ConstraintViolation<T>> violations = new LinkedHashSet<>();
+        try {
+            violations.addAll(ExtractionScope.exclude(largeContainers, () -> validator.validate(object, groups)));
+        } finally {
+            for (ForkJoinTask<java.util.List<ConstraintViolation<T>>> task : tasks) {
+                violations.addAll(task.join());
+            }
+        }
+        return violations;
+    }
+
+    private boolean isLarge(Object container) {
+        return (container instanceof IndexedSeq && ((IndexedSeq<?>) container).size() >= threshold)
+                || (container instanceof Map && ((Map<?, ?>) container).size() >= threshold);
+    }
+
+    private java.util.List<Restriction> chunks(Object container) {
+        final int size = container instanceof IndexedSeq
+                ? ((IndexedSeq<?>) container).size()
+                : ((Map<?, ?>) container).size();
+        final int chunkCount = pool.getParallelism() * 4;
+        final int chunkSize = Math.max(CHUNK_ALIGNMENT,
+                ((size + chunkCount - 1) / chunkCount + CHUNK_ALIGNMENT - 1) / CHUNK_ALIGNMENT * CHUNK_ALIGNMENT);
+        final java.util.List<Restriction> chunks = new ArrayList<>();
+        if (container instanceof IndexedSeq) {
+            final IndexedSeq<?> seq = (IndexedSeq<?>) container;
+            for (int from = 0; from < size; from += chunkSize) {
+                final BitSet indices = new BitSet(size);
+                indices.set(from, Math.min(size, from + chunkSize));
+                chunks.add(new Restriction() {
+                    @Override
+                    public <R> R apply(Supplier<R> action) {
+                        return ExtractionScope.restrictIndices(seq, indices, action);
+                    }
+                });
+            }
+        } else {
+            final Map<?, ?> map = (Map<?, ?>) container;
+            final Iterator<?> keys = map.keysIterator();
+            while (keys.hasNext()) {
+                final Set<Object> chunk = new HashSet<>(chunkSize * 4 / 3 + 1);
+                while (keys.hasNext() && chunk.size() < chunkSize) {
+                    chunk.add(keys.next());
+                }
+                chunks.add(new Restriction() {
+                    @Override
+                    public <R> R apply(Supplier<R> action) {
+                        return ExtractionScope.restrictKeys(map, chunk, action);
+                    }
+                });
+            }
+        }
+        return chunks;
+    }
+
+    private interface Restriction {
+        <R> R apply(Supplier<R> action);
+    }
+}
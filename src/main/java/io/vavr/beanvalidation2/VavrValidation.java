@@ -0,0 +1,215 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple3;
+import io.vavr.beanvalidation2.constraintvalidators.EmailValidatorForCharSeq;
+import io.vavr.beanvalidation2.constraintvalidators.NotBlankValidatorForCharSeq;
+import io.vavr.beanvalidation2.constraintvalidators.NotEmptyValidatorForCharSeq;
+import io.vavr.beanvalidation2.constraintvalidators.NotEmptyValidatorForFuture;
+import io.vavr.beanvalidation2.constraintvalidators.NotEmptyValidatorForValue;
+import io.vavr.beanvalidation2.constraintvalidators.PatternValidatorForCharSeq;
+import io.vavr.beanvalidation2.constraintvalidators.SizeValidatorForCharSeq;
+import io.vavr.beanvalidation2.constraintvalidators.SizeValidatorForTraversable;
+import io.vavr.beanvalidation2.valueextraction.VavrExtractors;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+
+import javax.validation.Configuration;
+import javax.validation.ConstraintValidator;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Registers the constraint validators of this module in code, instead of listing
+ * {@code META-INF/constraints-vavr.xml} in {@code validation.xml}:
+ * <pre>{@code
+ * Validator validator = VavrValidation.configure(Validation.byDefaultProvider().configure())
+ *         .buildValidatorFactory()
+ *         .getValidator();
+ * }</pre>
+ * The value extractors need no registration, the provider discovers them via the service loader.
+ */
+public final class VavrValidation {
+
+    private static final String CONSTRAINT_MAPPING = "/META-INF/constraints-vavr.xml";
+
+    private static final String HIBERNATE_CONFIGURATION = "org.hibernate.validator.HibernateValidatorConfiguration";
+
+    /**
+     * The validators {@code META-INF/constraints-vavr.xml} adds to the built-in constraints, in addition to the
+     * existing ones.
+     */
+    static final Map<Class<? extends Annotation>, List<Class<? extends ConstraintValidator<?, ?>>>> VALIDATORS =
+            LinkedHashMap.of(
+                    Size.class, List.of(SizeValidatorForTraversable.class, SizeValidatorForCharSeq.class),
+                    NotEmpty.class, List.of(NotEmptyValidatorForValue.class, NotEmptyValidatorForFuture.class,
+                            NotEmptyValidatorForCharSeq.class),
+                    NotBlank.class, List.of(NotBlankValidatorForCharSeq.class),
+                    Pattern.class, List.of(PatternValidatorForCharSeq.class),
+                    Email.class, List.of(EmailValidatorForCharSeq.class)
+            );
+
+    private VavrValidation() {
+    }
+
+    /**
+     * Adds the constraint validators of this module to {@code configuration}. With Hibernate Validator they are
+     * added as a programmatic constraint mapping, so no XML is read. Any other provider is given
+     * {@code META-INF/constraints-vavr.xml}, as the standard API has no other way to add validators to built-in
+     * constraints. Do not list that file in {@code validation.xml} as well, a constraint can be defined only once.
+     *
+     * @param configuration the configuration of the validator factory to build
+     * @param <C> the configuration type
+     * @return {@code configuration}
+     */
+    public static <C extends Configuration<?>> C configure(C configuration) {
+        Objects.requireNonNull(configuration, "configuration is null");
+        if (isHibernateValidator(configuration)) {
+            HibernateConstraintMapping.addTo(configuration, VALIDATORS);
+        } else {
+            configuration.addMapping(constraintMapping());
+        }
+        return configuration;
+    }
+
+    /**
+     * Reads {@code META-INF/constraints-vavr.xml} into memory, so that its stream is closed before it is handed to a
+     * configuration, which does not close the streams it is given.
+     */
+    private static InputStream constraintMapping() {
+        try (InputStream in = VavrValidation.class.getResourceAsStream(CONSTRAINT_MAPPING)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+                out.write(buffer, 0, count);
+            }
+            return new ByteArrayInputStream(out.toByteArray());
+        } catch (IOException e) {
+            throw new ValidationException("cannot read " + CONSTRAINT_MAPPING, e);
+        }
+    }
+
+    /**
+     * Prepares {@code validator} for {@code beanTypes}, so that the first validations after startup do not pay for
+     * it: resolves the metadata of the beans and of the beans they cascade to, and validates each constrained
+     * property of a vavr type once with a synthetic value, which makes the provider choose the value extractors and
+     * initialize the constraint validators. Properties of vavr types there is no synthetic value for, e.g.
+     * {@code TreeSet}, are skipped.
+     *
+     * @param validator the validator to prepare
+     * @param beanTypes the types of the beans that will be validated
+     * @return how long the warm-up took
+     */
+    public static Duration warmUp(Validator validator, Class<?>... beanTypes) {
+        return warmUp(validator, 1, beanTypes);
+    }
+
+    /**
+     * Like {@link #warmUp(Validator, Class[])}, but validates the synthetic values {@code repetitions} times, e.g.
+     * 10,000 times to have the extractors and validators compiled by the JIT before the first request.
+     *
+     * @param validator   the validator to prepare
+     * @param repetitions the number of times to validate each synthetic value, at least 1
+     * @param beanTypes   the types of the beans that will be validated
+     * @return how long the warm-up took
+     */
+    public static Duration warmUp(Validator validator, int repetitions, Class<?>... beanTypes) {
+        Objects.requireNonNull(validator, "validator is null");
+        if (repetitions < 1) {
+            throw new IllegalArgumentException("repetitions < 1");
+        }
+        final long start = System.nanoTime();
+        final Set<Class<?>> visited = new HashSet<>();
+        List<Tuple3<Class<?>, String, Object>> values = List.empty();
+        for (Class<?> beanType : beanTypes) {
+            values = values.appendAll(syntheticValues(validator, beanType, visited));
+        }
+        for (int i = 0; i < repetitions; i++) {
+            for (Tuple3<Class<?>, String, Object> value : values) {
+                validator.validateValue(value._1, value._2, value._3);
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static List<Tuple3<Class<?>, String, Object>> syntheticValues(Validator validator, Class<?> beanType,
+                                                                          Set<Class<?>> visited) {
+        if (!visited.add(beanType)) {
+            return List.empty();
+        }
+        List<Tuple3<Class<?>, String, Object>> values = List.empty();
+        for (PropertyDescriptor property : validator.getConstraintsForClass(beanType).getConstrainedProperties()) {
+            final Class<?> type = property.getElementClass();
+            if (VavrExtractors.isVavr(type)) {
+                // a null value would neither choose the value extractors nor initialize the constraint validators
+                for (Object value : SyntheticValues.of(type)) {
+                    values = values.append(Tuple.of(beanType, property.getPropertyName(), value));
+                }
+            } else if (property.isCascaded()) {
+                values = values.appendAll(syntheticValues(validator, type, visited));
+            }
+            values = values.appendAll(cascadedValues(validator, property.getConstrainedContainerElementTypes(),
+                    visited));
+        }
+        return values;
+    }
+
+    private static List<Tuple3<Class<?>, String, Object>> cascadedValues(Validator validator,
+                                                                         Set<ContainerElementTypeDescriptor> elements,
+                                                                         Set<Class<?>> visited) {
+        List<Tuple3<Class<?>, String, Object>> values = List.empty();
+        for (ContainerElementTypeDescriptor element : elements) {
+            if (element.isCascaded() && !VavrExtractors.isVavr(element.getElementClass())) {
+                values = values.appendAll(syntheticValues(validator, element.getElementClass(), visited));
+            }
+            values = values.appendAll(cascadedValues(validator, element.getConstrainedContainerElementTypes(),
+                    visited));
+        }
+        return values;
+    }
+
+    private static boolean isHibernateValidator(Configuration<?> configuration) {
+        try {
+            return Class.forName(HIBERNATE_CONFIGURATION, false, VavrValidation.class.getClassLoader())
+                    .isInstance(configuration);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraints;
+
+import io.vavr.beanvalidation2.constraintvalidators.AllMinValidatorForSeq;
+import io.vavr.beanvalidation2.constraintvalidators.AllMinValidatorForSortedMap;
+import io.vavr.beanvalidation2.constraintvalidators.AllMinValidatorForSortedSet;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * All elements of the annotated {@code io.vavr.collection.Seq}, e.g. a {@code Vector} or an {@code Array}, or
+ * {@code SortedSet}, or all keys of the annotated {@code SortedMap}, must be numbers greater than or equal to
+ * {@link #value()}.
+ * <p>
+ * Supported element types are {@code Byte}, {@code Short}, {@code Integer}, {@code Long}, {@code Float},
+ * {@code Double}, {@code BigInteger} and {@code BigDecimal}. {@code null} elements are considered valid, {@code NaN}
+ * is not. The elements are checked in a single pass over the container, which is much cheaper than extracting each
+ * of them for a constraint like {@code Seq<@Min(0) Integer>}, and only the first and the last one are checked if a
+ * sorted container is sorted by numeric value. Each offending element is reported with its index, or its key, with
+ * the same path as an element constraint.
+ */
+@Documented
+@Constraint(validatedBy = {
+        AllMinValidatorForSeq.class, AllMinValidatorForSortedSet.class, AllMinValidatorForSortedMap.class
+})
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(AllMin.List.class)
+public @interface AllMin {
+
+    String message() default "must be greater than or equal to {value}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * @return the value the elements must be greater than or equal to
+     */
+    long value();
+
+    @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+    @Retention(RUNTIME)
+    @Documented
+    @interface List {
+
+        AllMin[] value();
+    }
+}
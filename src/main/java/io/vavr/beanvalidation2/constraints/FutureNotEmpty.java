@@ -0,0 +1,102 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraints;
+
+import io.vavr.beanvalidation2.constraintvalidators.FutureNotEmptyValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The annotated {@code io.vavr.concurrent.Future} must not be {@code null} and must have completed successfully.
+ * <p>
+ * Unlike {@code @NotEmpty} this lets you choose how a future that has not completed yet is treated,
+ * see {@link #pending()}. Validation never blocks longer than {@link #timeout()}.
+ */
+@Documented
+@Constraint(validatedBy = FutureNotEmptyValidator.class)
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(FutureNotEmpty.List.class)
+public @interface FutureNotEmpty {
+
+    String message() default "must not be empty";
+
+    /**
+     * @return the message reported when the future did not complete within the timeout
+     */
+    String timeoutMessage() default "did not complete within {timeout} {unit}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * @return how a future is treated that has not completed yet
+     */
+    Pending pending() default Pending.INVALID;
+
+    /**
+     * @return how long to wait for completion if {@link #pending()} is {@link Pending#AWAIT}
+     */
+    long timeout() default 100;
+
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    enum Pending {
+
+        /**
+         * A pending future is valid. It is checked again on the next validation.
+         */
+        VALID,
+
+        /**
+         * A pending future is invalid.
+         */
+        INVALID,
+
+        /**
+         * Wait up to {@link #timeout()} for the future to complete. If it does not, {@link #timeoutMessage()}
+         * is reported instead of {@link #message()}.
+         */
+        AWAIT
+    }
+
+    @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+    @Retention(RUNTIME)
+    @Documented
+    @interface List {
+
+        FutureNotEmpty[] value();
+    }
+}
@@ -0,0 +1,82 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraints;
+
+import io.vavr.beanvalidation2.constraintvalidators.MaxValidatedElementsValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * At most the first {@link #value()} elements of the annotated {@code io.vavr.collection.Seq}, {@code Map} or
+ * {@code Multimap} are validated by {@link io.vavr.beanvalidation2.VavrLimitingValidator}, which stops their
+ * extraction there. If there are more, this constraint reports how many were left out. {@code null} elements are
+ * counted like any other, and {@code null} is considered valid. Validated by any other validator, all elements are
+ * extracted and this constraint is always satisfied.
+ * <p>
+ * The message parameter {@code {unvalidated}} is the number of elements left out, or
+ * {@link #unknownUnvalidated()} for a possibly infinite {@code Stream}, which is never evaluated beyond its first
+ * {@code value + 1} elements. It is added through Hibernate Validator's
+ * {@code HibernateConstraintValidatorContext}, so it is interpolated in messages taken from resource bundles, too.
+ * The default message is looked up in the {@code ContributorValidationMessages} bundle of this library.
+ */
+@Documented
+@Constraint(validatedBy = MaxValidatedElementsValidator.class)
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(MaxValidatedElements.List.class)
+public @interface MaxValidatedElements {
+
+    String message() default "{io.vavr.beanvalidation2.constraints.MaxValidatedElements.message}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * @return the number of elements validated
+     */
+    int value();
+
+    /**
+     * @return the value of {@code {unvalidated}} in the message if the number of elements left out is unknown
+     */
+    String unknownUnvalidated() default "the others";
+
+    @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+    @Retention(RUNTIME)
+    @Documented
+    @interface List {
+
+        MaxValidatedElements[] value();
+    }
+}
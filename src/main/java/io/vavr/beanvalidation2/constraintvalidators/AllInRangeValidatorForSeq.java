@@ -0,0 +1,36 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.beanvalidation2.constraints.AllInRange;
+
+
+public class AllInRangeValidatorForSeq extends BoundsValidatorForSeq<AllInRange> {
+
+    @Override
+    NumberBounds[] bounds(AllInRange constraintAnnotation) {
+        if (constraintAnnotation.min() > constraintAnnotation.max()) {
+            throw new IllegalArgumentException("The min parameter cannot be greater than the max parameter.");
+        }
+        return new NumberBounds[] {
+                NumberBounds.min(constraintAnnotation.min()), NumberBounds.max(constraintAnnotation.max())
+        };
+    }
+}
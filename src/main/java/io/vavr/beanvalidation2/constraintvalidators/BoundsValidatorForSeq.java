@@ -0,0 +1,76 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.collection.Seq;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.lang.annotation.Annotation;
+
+/**
+ * Applies numeric bounds to all elements of a sequence in a single pass, instead of extracting every element and
+ * validating it on its own. Only the offending elements are reported, each with its index in the sequence.
+ */
+abstract class BoundsValidatorForSeq<A extends Annotation> implements ConstraintValidator<A, Seq<?>> {
+
+    private static final String NODE_NAME = "<sequence element>";
+
+    private NumberBounds[] bounds;
+
+    abstract NumberBounds[] bounds(A constraintAnnotation);
+
+    @Override
+    public void initialize(A constraintAnnotation) {
+        bounds = bounds(constraintAnnotation);
+    }
+
+    @Override
+    public boolean isValid(Seq<?> value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        boolean valid = true;
+        int index = 0;
+        for (Object element : value) {
+            if (!test(element)) {
+                if (valid) {
+                    context.disableDefaultConstraintViolation();
+                    valid = false;
+                }
+                context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                        .addContainerElementNode(NODE_NAME, Seq.class, 0)
+                        .inIterable().atIndex(index)
+                        .addConstraintViolation();
+            }
+            index++;
+        }
+        return valid;
+    }
+
+    private boolean test(Object element) {
+        for (NumberBounds bound : bounds) {
+            if (!bound.test(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
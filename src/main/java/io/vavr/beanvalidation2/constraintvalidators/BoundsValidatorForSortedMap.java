@@ -0,0 +1,72 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.SortedMap;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.lang.annotation.Annotation;
+
+/**
+ * Applies a numeric bound to all keys of a sorted map. If the keys are sorted by numeric value only the first
+ * and the last key are checked. Otherwise, or if one of them is out of bounds, every offending key is reported.
+ */
+abstract class BoundsValidatorForSortedMap<A extends Annotation> implements ConstraintValidator<A, SortedMap<?, ?>> {
+
+    private static final String NODE_NAME = "<map key>";
+
+    private NumberBounds bounds;
+
+    abstract NumberBounds bounds(A constraintAnnotation);
+
+    @Override
+    public void initialize(A constraintAnnotation) {
+        bounds = bounds(constraintAnnotation);
+    }
+
+    @Override
+    public boolean isValid(SortedMap<?, ?> value, ConstraintValidatorContext context) {
+        if (value == null || value.isEmpty()) {
+            return true;
+        }
+        final Object head = value.head()._1;
+        if (NumberBounds.isNumericOrder(value.comparator(), head)
+                && bounds.test(head) && bounds.test(value.last()._1)) {
+            return true;
+        }
+        boolean valid = true;
+        for (Iterator<?> keys = value.keysIterator(); keys.hasNext(); ) {
+            final Object key = keys.next();
+            if (!bounds.test(key)) {
+                if (valid) {
+                    context.disableDefaultConstraintViolation();
+                    valid = false;
+                }
+                context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                        .addContainerElementNode(NODE_NAME, SortedMap.class, 0)
+                        .inIterable().atKey(key)
+                        .addConstraintViolation();
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,68 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.collection.SortedSet;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.lang.annotation.Annotation;
+
+/**
+ * Applies a numeric bound to all elements of a sorted set. If the set is sorted by numeric value only its first
+ * and last element are checked. Otherwise, or if one of them is out of bounds, the elements are checked in order
+ * up to the first offending one, which is reported as an {@code <iterable element>} without an index, like the
+ * elements of any set. Further offending elements would get the same path and are not reported separately.
+ */
+abstract class BoundsValidatorForSortedSet<A extends Annotation> implements ConstraintValidator<A, SortedSet<?>> {
+
+    private static final String NODE_NAME = "<iterable element>";
+
+    private NumberBounds bounds;
+
+    abstract NumberBounds bounds(A constraintAnnotation);
+
+    @Override
+    public void initialize(A constraintAnnotation) {
+        bounds = bounds(constraintAnnotation);
+    }
+
+    @Override
+    public boolean isValid(SortedSet<?> value, ConstraintValidatorContext context) {
+        if (value == null || value.isEmpty()) {
+            return true;
+        }
+        final Object head = value.head();
+        if (NumberBounds.isNumericOrder(value.comparator(), head) && bounds.test(head) && bounds.test(value.last())) {
+            return true;
+        }
+        for (Object element : value) {
+            if (!bounds.test(element)) {
+                context.disableDefaultConstraintViolation();
+                context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                        .addContainerElementNode(NODE_NAME, SortedSet.class, 0)
+                        .inIterable()
+                        .addConstraintViolation();
+                return false;
+            }
+        }
+        return true;
+    }
+}
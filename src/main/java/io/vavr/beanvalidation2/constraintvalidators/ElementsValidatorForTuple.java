@@ -0,0 +1,127 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.lang.annotation.Annotation;
+
+/**
+ * Checks the elements of a tuple in a single call, instead of extracting every element and validating it on its
+ * own. The generated subclasses, one per arity, pass each element to {@link #check}. Only the offending elements are
+ * reported, each with its position, with the same path as an element constraint.
+ */
+abstract class ElementsValidatorForTuple<A extends Annotation, T> implements ConstraintValidator<A, T> {
+
+    private static final String NODE_NAME = "<element>";
+    private static final String NOT_NULL_MESSAGE = "{javax.validation.constraints.NotNull.message}";
+    private static final String NOT_BLANK_MESSAGE = "{javax.validation.constraints.NotBlank.message}";
+
+    private final Class<?> tupleType;
+    private final int arity;
+
+    // bit i is set if position i is checked
+    private int notNull;
+    private int notBlank;
+    private String notNullMessage;
+    private String notBlankMessage;
+
+    ElementsValidatorForTuple(Class<?> tupleType, int arity) {
+        this.tupleType = tupleType;
+        this.arity = arity;
+    }
+
+    final void requireNotNull(String message) {
+        notNull = allPositions();
+        notNullMessage = message;
+    }
+
+    final void requireNotBlank(String message) {
+        notBlank = allPositions();
+        notBlankMessage = message;
+    }
+
+    /**
+     * @param message the message of all violations, or empty for the ones of {@code @NotNull} and {@code @NotBlank}
+     */
+    final void require(int[] notNullPositions, int[] notBlankPositions, String message) {
+        notNull = positions(notNullPositions);
+        notBlank = positions(notBlankPositions);
+        notNullMessage = message.isEmpty() ? NOT_NULL_MESSAGE : message;
+        notBlankMessage = message.isEmpty() ? NOT_BLANK_MESSAGE : message;
+    }
+
+    private int allPositions() {
+        return (1 << (arity + 1)) - 2;
+    }
+
+    private int positions(int[] positions) {
+        int mask = 0;
+        for (int position : positions) {
+            if (position < 1 || position > arity) {
+                throw new IllegalArgumentException("position " + position + " is not between 1 and " + arity);
+            }
+            mask |= 1 << position;
+        }
+        return mask;
+    }
+
+    /**
+     * Checks the element at {@code position}, counted from 1, and reports it if it is invalid.
+     *
+     * @return if the element is valid
+     */
+    final boolean check(ConstraintValidatorContext context, int position, Object element) {
+        final int bit = 1 << position;
+        if ((notNull & bit) != 0 && element == null) {
+            return report(context, notNullMessage, position);
+        }
+        if ((notBlank & bit) != 0 && isBlank(element)) {
+            return report(context, notBlankMessage, position);
+        }
+        return true;
+    }
+
+    private static boolean isBlank(Object element) {
+        if (element == null) {
+            return true;
+        }
+        if (element instanceof CharSequence) {
+            // like String.trim(), as the validator of @NotBlank
+            final CharSequence chars = (CharSequence) element;
+            for (int i = 0; i < chars.length(); i++) {
+                if (chars.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean report(ConstraintValidatorContext context, String message, int position) {
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(message)
+                .addContainerElementNode(NODE_NAME, tupleType, position - 1)
+                .inIterable().atIndex(position)
+                .addConstraintViolation();
+        return false;
+    }
+}
@@ -0,0 +1,144 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.collection.CharSeq;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.constraints.Email;
+import java.net.IDN;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Accepts the same addresses as the validator for {@code CharSequence} of Hibernate Validator 6.0.20.Final, whose
+ * {@code EmailValidator} and {@code DomainNameUtil} the patterns below are copied from. The local and the domain part
+ * are matched as regions of the {@code CharSeq}, instead of as substrings of a copy of it. As there, the length of a
+ * domain with non-ASCII characters is checked after converting it with {@link IDN#toASCII(String)}.
+ */
+public class EmailValidatorForCharSeq implements ConstraintValidator<Email, CharSeq> {
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_PART_LENGTH = 255;
+    private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+
+    private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+    private static final String LOCAL_PART_INSIDE_QUOTES_ATOM =
+            "([a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+    private static final String LOCAL_PART_WORD =
+            "(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")";
+    private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+            LOCAL_PART_WORD + "(\\." + LOCAL_PART_WORD + ")*", Pattern.CASE_INSENSITIVE
+    );
+
+    private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+    private static final String DOMAIN_LABEL =
+            "(" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
+    private static final String DOMAIN = DOMAIN_LABEL + "+(\\." + DOMAIN_LABEL + "+)*";
+    private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+    private static final String IP_V4_TAIL =
+            "((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])";
+    private static final String IP_V6_DOMAIN = "(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}"
+            + "|([0-9a-fA-F]{1,4}:){1,7}:"
+            + "|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}"
+            + "|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}"
+            + "|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}"
+            + "|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}"
+            + "|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}"
+            + "|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})"
+            + "|:((:[0-9a-fA-F]{1,4}){1,7}|:)"
+            + "|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}"
+            + "|::(ffff(:0{1,4}){0,1}:){0,1}" + IP_V4_TAIL
+            + "|([0-9a-fA-F]{1,4}:){1,4}:" + IP_V4_TAIL + ")";
+    private static final Pattern DOMAIN_PATTERN = Pattern.compile(
+            DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", Pattern.CASE_INSENSITIVE
+    );
+
+    private Pattern pattern;
+
+    @Override
+    public void initialize(Email constraintAnnotation) {
+        if (!".*".equals(constraintAnnotation.regexp()) || constraintAnnotation.flags().length > 0) {
+            pattern = PatternValidatorForCharSeq.compile(constraintAnnotation.regexp(), constraintAnnotation.flags());
+        }
+    }
+
+    @Override
+    public boolean isValid(CharSeq value, ConstraintValidatorContext context) {
+        if (value == null || value.length() == 0) {
+            return true;
+        }
+        if (!isValidAddress(value)) {
+            return false;
+        }
+        return pattern == null || pattern.matcher(value).matches();
+    }
+
+    private static boolean isValidAddress(CharSeq value) {
+        final int length = value.length();
+        int at = length - 1;
+        while (at >= 0 && value.charAt(at) != '@') {
+            at--;
+        }
+        if (at < 0 || at > MAX_LOCAL_PART_LENGTH) {
+            return false;
+        }
+        if (!matchesRegion(LOCAL_PART_PATTERN, value, 0, at)) {
+            return false;
+        }
+        final int domainStart = at + 1;
+        if (value.charAt(length - 1) == '.' || !matchesRegion(DOMAIN_PATTERN, value, domainStart, length)) {
+            return false;
+        }
+        return isValidDomainLength(value, domainStart, length);
+    }
+
+    private static boolean matchesRegion(Pattern pattern, CharSeq value, int start, int end) {
+        final Matcher matcher = pattern.matcher(value);
+        matcher.region(start, end);
+        return matcher.matches();
+    }
+
+    /**
+     * Checks the lengths {@link IDN#toASCII(String)} checks. Only a domain with non-ASCII characters is converted,
+     * as the conversion leaves an ASCII domain as it is.
+     */
+    private static boolean isValidDomainLength(CharSeq value, int start, int end) {
+        int labelStart = start;
+        for (int index = start; index < end; index++) {
+            final char c = value.charAt(index);
+            if (c >= 0x80) {
+                try {
+                    return IDN.toASCII(value.subSequence(start, end).toString()).length() <= MAX_DOMAIN_PART_LENGTH;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }
+            if (c == '.') {
+                if (index - labelStart > MAX_DOMAIN_LABEL_LENGTH) {
+                    return false;
+                }
+                labelStart = index + 1;
+            }
+        }
+        return end - labelStart <= MAX_DOMAIN_LABEL_LENGTH && end - start <= MAX_DOMAIN_PART_LENGTH;
+    }
+}
@@ -0,0 +1,94 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.beanvalidation2.constraints.FutureNotEmpty;
+import io.vavr.concurrent.Future;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+
+public class FutureNotEmptyValidator implements ConstraintValidator<FutureNotEmpty, Future<?>> {
+
+    private static final long MIN_PAUSE_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private FutureNotEmpty.Pending pending;
+    private long timeout;
+    private TimeUnit unit;
+    private String timeoutMessage;
+
+    @Override
+    public void initialize(FutureNotEmpty constraintAnnotation) {
+        pending = constraintAnnotation.pending();
+        timeout = constraintAnnotation.timeout();
+        unit = constraintAnnotation.unit();
+        timeoutMessage = constraintAnnotation.timeoutMessage();
+
+        if (timeout < 0) {
+            throw new IllegalArgumentException("The timeout parameter cannot be negative.");
+        }
+    }
+
+    @Override
+    public boolean isValid(Future<?> value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return false;
+        }
+        if (!value.isCompleted()) {
+            switch (pending) {
+                case VALID:
+                    return true;
+                case INVALID:
+                    return false;
+                default:
+                    if (!awaitCompletion(value)) {
+                        context.disableDefaultConstraintViolation();
+                        context.buildConstraintViolationWithTemplate(timeoutMessage).addConstraintViolation();
+                        return false;
+                    }
+            }
+        }
+        return value.isSuccess();
+    }
+
+    /**
+     * Waits for the future to complete, at most for the configured timeout. {@code Future#await(long, TimeUnit)}
+     * is not used because it fails the future on timeout, which would change the validated bean. Neither is a
+     * completion callback registered, as a future that never completes would keep one per validation. Instead the
+     * future is polled, with pauses growing up to a millisecond.
+     */
+    private boolean awaitCompletion(Future<?> value) {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long pause = MIN_PAUSE_NANOS;
+        while (!value.isCompleted()) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                return value.isCompleted();
+            }
+            LockSupport.parkNanos(Math.min(pause, remaining));
+            pause = Math.min(pause * 2, MAX_PAUSE_NANOS);
+        }
+        return true;
+    }
+}
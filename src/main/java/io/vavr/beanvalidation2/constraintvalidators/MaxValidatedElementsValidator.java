@@ -0,0 +1,106 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.beanvalidation2.constraints.MaxValidatedElements;
+import io.vavr.beanvalidation2.valueextraction.ExtractionScope;
+import io.vavr.collection.Traversable;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ValidationException;
+
+
+public class MaxValidatedElementsValidator implements ConstraintValidator<MaxValidatedElements, Traversable<?>> {
+
+    private static final String UNVALIDATED = "unvalidated";
+
+    private static final String HIBERNATE_CONTEXT =
+            "org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext";
+
+    private static final boolean HIBERNATE_VALIDATOR = isHibernateValidatorPresent();
+
+    private String unknownUnvalidated;
+
+    @Override
+    public void initialize(MaxValidatedElements constraintAnnotation) {
+        unknownUnvalidated = constraintAnnotation.unknownUnvalidated();
+
+        if (constraintAnnotation.value() < 0) {
+            throw new IllegalArgumentException("The value parameter cannot be negative.");
+        }
+    }
+
+    @Override
+    public boolean isValid(Traversable<?> value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        // the limit in effect, the greater one if the container is annotated in several places
+        final int max = ExtractionScope.limitOf(value);
+        if (max < 0) {
+            // not limited, all elements are extracted
+            return true;
+        }
+        final String unvalidated;
+        if (!value.hasDefiniteSize()) {
+            // drop only evaluates what extraction already did, plus one element
+            if (value.drop(max).isEmpty()) {
+                return true;
+            }
+            unvalidated = unknownUnvalidated;
+        } else {
+            final int size = value.size();
+            if (size <= max) {
+                return true;
+            }
+            unvalidated = String.valueOf(size - max);
+        }
+        if (HIBERNATE_VALIDATOR) {
+            MessageParameters.add(context, UNVALIDATED, unvalidated);
+        }
+        return false;
+    }
+
+    private static boolean isHibernateValidatorPresent() {
+        try {
+            Class.forName(HIBERNATE_CONTEXT, false, MaxValidatedElementsValidator.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Keeps the optional Hibernate Validator classes out of {@link MaxValidatedElementsValidator} itself.
+     */
+    private static final class MessageParameters {
+
+        static void add(ConstraintValidatorContext context, String name, Object value) {
+            try {
+                context.unwrap(HibernateConstraintValidatorContext.class).addMessageParameter(name, value);
+            } catch (ValidationException e) {
+                // another provider, {unvalidated} stays in the message as it is
+            }
+        }
+    }
+}
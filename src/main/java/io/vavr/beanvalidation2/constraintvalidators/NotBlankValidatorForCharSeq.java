@@ -0,0 +1,52 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.collection.CharSeq;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.constraints.NotBlank;
+
+/**
+ * Like the validator for {@code CharSequence}, which trims a copy of the value, a {@code CharSeq} is blank if it
+ * only consists of characters up to and including the space character.
+ */
+public class NotBlankValidatorForCharSeq implements ConstraintValidator<NotBlank, CharSeq> {
+
+
+    @Override
+    public void initialize(NotBlank constraintAnnotation) {
+        // no-op
+    }
+
+    @Override
+    public boolean isValid(CharSeq value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return false;
+        }
+        for (int index = 0, length = value.length(); index < length; index++) {
+            if (value.charAt(index) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
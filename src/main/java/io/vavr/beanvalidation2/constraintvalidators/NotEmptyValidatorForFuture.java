@@ -0,0 +1,45 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.concurrent.Future;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.constraints.NotEmpty;
+
+/**
+ * {@code Future#isEmpty()} blocks until the future completes, so {@link NotEmptyValidatorForValue} would stall
+ * the validating thread. This validator never blocks: a future that has not completed yet is invalid.
+ * Use {@link io.vavr.beanvalidation2.constraints.FutureNotEmpty} to treat it differently.
+ */
+public class NotEmptyValidatorForFuture implements ConstraintValidator<NotEmpty, Future<?>> {
+
+
+    @Override
+    public void initialize(NotEmpty constraintAnnotation) {
+        // no-op
+    }
+
+    @Override
+    public boolean isValid(Future<?> value, ConstraintValidatorContext context) {
+        return value != null && value.isSuccess(); // isSuccess() is false while the future is pending
+    }
+}
@@ -0,0 +1,165 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Set;
+import io.vavr.collection.TreeSet;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Comparator;
+
+/**
+ * A lower or upper bound as defined by {@code @Min}, {@code @Max}, {@code @DecimalMin} and {@code @DecimalMax},
+ * applicable to numbers and to char sequences holding a number.
+ */
+final class NumberBounds {
+
+    private static final Comparator<?> NATURAL_ORDER = TreeSet.empty().comparator();
+
+    private static final Set<Class<?>> NATURALLY_NUMERIC_ORDER = HashSet.of(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class
+    );
+
+    private static final long EXACT_DOUBLE_LIMIT = 1L << 53;
+
+    private final BigDecimal bound;
+    private final boolean lower;
+    private final boolean inclusive;
+
+    // an integral bound is compared to integral numbers and doubles without converting them to BigDecimal
+    private final boolean integral;
+    private final long longBound;
+
+    private NumberBounds(BigDecimal bound, boolean lower, boolean inclusive) {
+        this.bound = bound;
+        this.lower = lower;
+        this.inclusive = inclusive;
+        boolean integral;
+        long longBound;
+        try {
+            longBound = bound.longValueExact();
+            integral = true;
+        } catch (ArithmeticException e) {
+            longBound = 0;
+            integral = false;
+        }
+        this.integral = integral;
+        this.longBound = longBound;
+    }
+
+    static NumberBounds min(long value) {
+        return new NumberBounds(BigDecimal.valueOf(value), true, true);
+    }
+
+    static NumberBounds max(long value) {
+        return new NumberBounds(BigDecimal.valueOf(value), false, true);
+    }
+
+    static NumberBounds positive() {
+        return new NumberBounds(BigDecimal.ZERO, true, false);
+    }
+
+    static NumberBounds decimalMin(String value, boolean inclusive) {
+        return new NumberBounds(parseBound(value), true, inclusive);
+    }
+
+    static NumberBounds decimalMax(String value, boolean inclusive) {
+        return new NumberBounds(parseBound(value), false, inclusive);
+    }
+
+    private static BigDecimal parseBound(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(value + " does not represent a valid BigDecimal format.", e);
+        }
+    }
+
+    /**
+     * Tests a single value. {@code null} is valid, {@code NaN} and anything that is not a number is not.
+     */
+    boolean test(Object value) {
+        if (value == null) {
+            return true;
+        }
+        final int comparison;
+        if (integral && (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte)) {
+            comparison = Long.compare(((Number) value).longValue(), longBound);
+        } else if (value instanceof Double || value instanceof Float) {
+            final double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d)) {
+                return false;
+            }
+            if (integral && Math.abs(longBound) <= EXACT_DOUBLE_LIMIT) {
+                comparison = d < longBound ? -1 : (d > longBound ? 1 : 0);
+            } else {
+                comparison = Double.isInfinite(d) ? (d > 0 ? 1 : -1) : BigDecimal.valueOf(d).compareTo(bound);
+            }
+        } else {
+            final BigDecimal decimal = toBigDecimal(value);
+            if (decimal == null) {
+                return false;
+            }
+            comparison = decimal.compareTo(bound);
+        }
+        if (lower) {
+            return inclusive ? comparison >= 0 : comparison > 0;
+        } else {
+            return inclusive ? comparison <= 0 : comparison < 0;
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Number || value instanceof CharSequence) {
+            try {
+                return new BigDecimal(value.toString());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether elements of the type of {@code sample}, sorted by {@code comparator}, are sorted by their
+     * numeric value, ascending or descending. If so, all elements are within bounds if the first and the last are.
+     */
+    static boolean isNumericOrder(Comparator<?> comparator, Object sample) {
+        return sample != null && NATURALLY_NUMERIC_ORDER.contains(sample.getClass()) && (
+                NATURAL_ORDER.equals(comparator)
+                        || Comparator.naturalOrder().equals(comparator)
+                        || Collections.reverseOrder().equals(comparator)
+                        || Collections.reverseOrder(NATURAL_ORDER).equals(comparator)
+        );
+    }
+}
@@ -0,0 +1,56 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.collection.CharSeq;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.constraints.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+
+public class PatternValidatorForCharSeq implements ConstraintValidator<Pattern, CharSeq> {
+
+    private java.util.regex.Pattern pattern;
+
+    @Override
+    public void initialize(Pattern constraintAnnotation) {
+        pattern = compile(constraintAnnotation.regexp(), constraintAnnotation.flags());
+    }
+
+    @Override
+    public boolean isValid(CharSeq value, ConstraintValidatorContext context) {
+        // the matcher reads the characters of the CharSeq in place
+        return value == null || pattern.matcher(value).matches();
+    }
+
+    static java.util.regex.Pattern compile(String regexp, Pattern.Flag[] flags) {
+        int combined = 0;
+        for (Pattern.Flag flag : flags) {
+            combined |= flag.getValue();
+        }
+        try {
+            return java.util.regex.Pattern.compile(regexp, combined);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid regular expression.", e);
+        }
+    }
+}
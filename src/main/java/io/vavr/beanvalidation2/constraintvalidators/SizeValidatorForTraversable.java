@@ -19,6 +19,7 @@
  */
 package io.vavr.beanvalidation2.constraintvalidators;
 
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Traversable;
 
 import javax.validation.ConstraintValidator;
@@ -45,7 +46,26 @@ public class SizeValidatorForTraversable implements ConstraintValidator<Size, Tr
 
     @Override
     public boolean isValid(Traversable<?> value, ConstraintValidatorContext context) {
-        return value == null || value.size() >= min && value.size() <= max;
+        if (value == null) {
+            return true;
+        }
+        final long size = sizeUpTo(value, (long) max + 1);
+        return size >= min && size <= max;
+    }
+
+    /**
+     * Returns the size of the given traversable. Lazily sized ones like {@code Stream} or {@code Iterator}
+     * are counted only up to {@code limit}, so this also terminates on infinite streams.
+     */
+    static long sizeUpTo(Traversable<?> value, long limit) {
+        if (value.hasDefiniteSize()) {
+            return value.size();
+        }
+        long count = 0;
+        for (Iterator<?> iterator = value.iterator(); count < limit && iterator.hasNext(); iterator.next()) {
+            count++;
+        }
+        return count;
     }
 }
 
@@ -27,11 +27,41 @@ import javax.validation.valueextraction.ValueExtractor;
 public class EitherLeftExtractor implements ValueExtractor<Either<@ExtractedValue ?, ?>> {
 	private static final String NODE_NAME = "<left element>";
 
+	private final boolean extractAbsent;
+
+	/**
+	 * Extracts {@code null} as the left value of a right {@code Either}, so that e.g. {@code @NotNull}
+	 * reports it.
+	 */
+	public EitherLeftExtractor() {
+		this(true);
+	}
+
+	private EitherLeftExtractor(boolean extractAbsent) {
+		this.extractAbsent = extractAbsent;
+	}
+
+	/**
+	 * Returns an extractor that extracts nothing from a right {@code Either}, which saves a pass over
+	 * all left element constraints. Constraints like {@code @NotNull} on the left element then no longer
+	 * report a right {@code Either}. Register it via
+	 * {@link javax.validation.Configuration#addValueExtractor(ValueExtractor)}, which takes precedence
+	 * over the extractor registered by this module.
+	 *
+	 * @return an extractor for present left values only
+	 */
+	public static EitherLeftExtractor presentOnly() {
+		return new EitherLeftExtractor(false);
+	}
+
 	@Override
 	public void extractValues(Either<?, ?> originalValue, ValueReceiver receiver) {
+		if (ExtractionScope.isExcluded(originalValue)) {
+			return;
+		}
 		if (originalValue.isLeft()) {
 			receiver.value(NODE_NAME, originalValue.getLeft());
-		} else {
+		} else if (extractAbsent) {
 			receiver.value(NODE_NAME, null);
 		}
 	}
@@ -27,11 +27,41 @@ import javax.validation.valueextraction.ValueExtractor;
 public class EitherRightExtractor implements ValueExtractor<Either<?,@ExtractedValue ?>> {
 	private static final String NODE_NAME = "<right element>";
 
+	private final boolean extractAbsent;
+
+	/**
+	 * Extracts {@code null} as the right value of a left {@code Either}, so that e.g. {@code @NotNull}
+	 * reports it.
+	 */
+	public EitherRightExtractor() {
+		this(true);
+	}
+
+	private EitherRightExtractor(boolean extractAbsent) {
+		this.extractAbsent = extractAbsent;
+	}
+
+	/**
+	 * Returns an extractor that extracts nothing from a left {@code Either}, which saves a pass over
+	 * all right element constraints. Constraints like {@code @NotNull} on the right element then no longer
+	 * report a left {@code Either}. Register it via
+	 * {@link javax.validation.Configuration#addValueExtractor(ValueExtractor)}, which takes precedence
+	 * over the extractor registered by this module.
+	 *
+	 * @return an extractor for present right values only
+	 */
+	public static EitherRightExtractor presentOnly() {
+		return new EitherRightExtractor(false);
+	}
+
 	@Override
 	public void extractValues(Either<?, ?> originalValue, ValueReceiver receiver) {
+		if (ExtractionScope.isExcluded(originalValue)) {
+			return;
+		}
 		if (originalValue.isRight()) {
 			receiver.value(NODE_NAME, originalValue.get());
-		} else {
+		} else if (extractAbsent) {
 			receiver.value(NODE_NAME, null);
 		}
 	}
@@ -0,0 +1,208 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Selects a random sample of the elements of each container for the sampling extractors, e.g.
+ * {@link SeqValueExtractor#sampling(ElementSampling)}, and counts the elements sampled and skipped by them.
+ * <p>
+ * The sample is seeded: the same container is sampled the same way on every validation. Indices and keys of the
+ * sampled elements are the real ones. Use an instance for trusted data only, as elements that are not sampled
+ * are not validated at all. The size of a container is needed to sample it, so a container without a definite
+ * size, like a {@code Stream}, cannot be sampled and fails the validation.
+ */
+public final class ElementSampling {
+
+    private final double fraction;
+    private final int count;
+    private final long seed;
+
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    private ElementSampling(double fraction, int count, long seed) {
+        this.fraction = fraction;
+        this.count = count;
+        this.seed = seed;
+    }
+
+    /**
+     * Samples each element with the given probability. An {@code IndexedSeq} is only accessed at the selected
+     * indices, other containers are traversed up to the last selected element.
+     *
+     * @param fraction the probability of an element to be sampled, from 0 to 1
+     * @param seed the seed of the random selection
+     * @return a sampling
+     */
+    public static ElementSampling fraction(double fraction, long seed) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("fraction must be between 0 and 1");
+        }
+        return new ElementSampling(fraction, -1, seed);
+    }
+
+    /**
+     * Samples {@code count} elements of each container, or all if it has fewer.
+     *
+     * @param count the number of elements to sample per container
+     * @param seed the seed of the random selection
+     * @return a sampling
+     */
+    public static ElementSampling count(int count, long seed) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count < 0");
+        }
+        return new ElementSampling(Double.NaN, count, seed);
+    }
+
+    /**
+     * @return the number of elements sampled so far, over all containers
+     */
+    public long sampledCount() {
+        return sampled.sum();
+    }
+
+    /**
+     * @return the number of elements skipped so far, over all containers
+     */
+    public long skippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * @param size the number of elements
+     * @return the positions to sample
+     */
+    Positions positions(int size) {
+        if (count >= 0) {
+            if (count >= size) {
+                return all();
+            }
+            return count == 0 ? none() : new ChosenPositions(choose(size));
+        }
+        if (fraction == 0) {
+            return none();
+        }
+        if (fraction == 1) {
+            return all();
+        }
+        return new RandomPositions(fraction, new SplittableRandom(seed));
+    }
+
+    private static Positions none() {
+        return new Positions() {
+            @Override
+            int next() {
+                return Integer.MAX_VALUE;
+            }
+        };
+    }
+
+    private static Positions all() {
+        return new Positions() {
+            private int position = -1;
+
+            @Override
+            int next() {
+                return position == Integer.MAX_VALUE ? position : ++position;
+            }
+        };
+    }
+
+    void record(long sampledElements, long skippedElements) {
+        sampled.add(sampledElements);
+        skipped.add(skippedElements);
+    }
+
+    /**
+     * Robert Floyd's algorithm, choosing {@code count} of {@code size} positions with as many random numbers. The
+     * chosen positions are kept sorted, so that memory is proportional to the sample instead of the container:
+     * {@code bound} exceeds all positions chosen before, so it is appended, and a smaller one is inserted.
+     */
+    private int[] choose(int size) {
+        final int[] chosen = new int[count];
+        int chosenCount = 0;
+        final SplittableRandom random = new SplittableRandom(seed);
+        for (int bound = size - count; bound < size; bound++) {
+            final int position = random.nextInt(bound + 1);
+            final int index = Arrays.binarySearch(chosen, 0, chosenCount, position);
+            if (index >= 0) {
+                chosen[chosenCount] = bound;
+            } else {
+                final int insertion = -index - 1;
+                System.arraycopy(chosen, insertion, chosen, insertion + 1, chosenCount - insertion);
+                chosen[insertion] = position;
+            }
+            chosenCount++;
+        }
+        return chosen;
+    }
+
+    /**
+     * Ascending positions, {@code Integer.MAX_VALUE} when exhausted.
+     */
+    abstract static class Positions {
+        abstract int next();
+    }
+
+    private static final class ChosenPositions extends Positions {
+
+        private final int[] chosen;
+        private int index;
+
+        ChosenPositions(int[] chosen) {
+            this.chosen = chosen;
+        }
+
+        @Override
+        int next() {
+            return index < chosen.length ? chosen[index++] : Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Draws the gaps between sampled positions from the geometric distribution, so that skipped elements cost
+     * no random number.
+     */
+    private static final class RandomPositions extends Positions {
+
+        private final double logSkipProbability;
+        private final SplittableRandom random;
+        private long position = -1;
+
+        RandomPositions(double fraction, SplittableRandom random) {
+            this.logSkipProbability = Math.log(1 - fraction);
+            this.random = random;
+        }
+
+        @Override
+        int next() {
+            if (position < Integer.MAX_VALUE) {
+                final double gap = Math.floor(Math.log(1 - random.nextDouble()) / logSkipProbability);
+                position = Math.min(Integer.MAX_VALUE, position + 1 + (long) Math.min(gap, Integer.MAX_VALUE));
+            }
+            return (int) position;
+        }
+    }
+}
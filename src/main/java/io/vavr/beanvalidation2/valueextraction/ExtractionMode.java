@@ -0,0 +1,77 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import java.util.Objects;
+
+/**
+ * Selects which elements of a container the Seq, Map and Multimap extractors extract. Pass it to the constructor
+ * of an extractor, e.g. {@code new SeqValueExtractor(ExtractionMode.sampling(sampling))}, and register the extractor
+ * via {@link javax.validation.Configuration#addValueExtractor(javax.validation.valueextraction.ValueExtractor)},
+ * which takes precedence over the extractor registered by this module.
+ * <p>
+ * Containers restricted or limited by {@link ExtractionScope} are not sampled, and are extracted completely in
+ * fail-fast mode, but no further than their limit.
+ */
+public final class ExtractionMode {
+
+    enum Kind { ALL, SAMPLING, FAIL_FAST }
+
+    private static final ExtractionMode ALL = new ExtractionMode(Kind.ALL, null, null);
+
+    final Kind kind;
+    final ElementSampling sampling;
+    final FailFastElements failFast;
+
+    private ExtractionMode(Kind kind, ElementSampling sampling, FailFastElements failFast) {
+        this.kind = kind;
+        this.sampling = sampling;
+        this.failFast = failFast;
+    }
+
+    /**
+     * @return the mode extracting all elements, the default
+     */
+    public static ExtractionMode all() {
+        return ALL;
+    }
+
+    /**
+     * Extracts only a sample of the elements of a container, with their real indices or keys.
+     *
+     * @param sampling selects the elements and counts them
+     * @return a sampling mode
+     */
+    public static ExtractionMode sampling(ElementSampling sampling) {
+        return new ExtractionMode(Kind.SAMPLING, Objects.requireNonNull(sampling, "sampling is null"), null);
+    }
+
+    /**
+     * Stops extracting the elements of a container once {@code failFast} counted its maximum number of violations
+     * within it, saving the validation and message interpolation of the remaining elements. The counting message
+     * interpolator of {@code failFast} must be configured as well.
+     *
+     * @param failFast counts the violations and the containers stopped early
+     * @return a fail-fast mode
+     */
+    public static ExtractionMode failFast(FailFastElements failFast) {
+        return new ExtractionMode(Kind.FAIL_FAST, null, Objects.requireNonNull(failFast, "failFast is null"));
+    }
+}
@@ -0,0 +1,340 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Seq;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Restricts which elements the {@code Seq}, {@code Map} and {@code Multimap} extractors of this module extract
+ * from a particular container instance, for the duration of an action on the current thread. Everything else
+ * is extracted as usual. Containers can also be {@linkplain #limit(java.util.Map, Supplier) limited} to their
+ * first elements, or {@linkplain #exclude(Iterable, Supplier) excluded} as a whole, which the {@code Either} and
+ * {@code Tuple} extractors honour as well.
+ * <p>
+ * The extractors look up the restriction once per container. While no thread runs an action in a scope, the
+ * lookup is a single volatile read, so unrestricted validation is not slowed down.
+ */
+public final class ExtractionScope {
+
+    private static final ThreadLocal<IdentityHashMap<Object, Object>> FILTERS = new ThreadLocal<>();
+
+    /**
+     * The number of threads with a non-empty {@link #FILTERS} map. The thread local is not read while it is 0.
+     */
+    private static final AtomicInteger ACTIVE_THREADS = new AtomicInteger();
+
+    private static final Object EXCLUDED = new Object();
+
+    private ExtractionScope() {
+    }
+
+    /**
+     * Runs {@code action}, extracting only the elements of {@code seq} whose index matches {@code indices}.
+     *
+     * @param seq a {@code Seq} instance, compared by identity
+     * @param indices the indices to extract
+     * @param action e.g. {@code () -> validator.validateProperty(bean, "elements")}
+     * @param <R> the result type
+     * @return the result of {@code action}
+     */
+    public static <R> R restrictIndices(Seq<?> seq, IntPredicate indices, Supplier<R> action) {
+        return restrict(seq, new IndexFilter(indices, null, Integer.MAX_VALUE), action);
+    }
+
+    /**
+     * Runs {@code action}, extracting only the elements of {@code seq} at the given indices. An {@code IndexedSeq}
+     * is accessed at these indices only, instead of being traversed.
+     *
+     * @param seq a {@code Seq} instance, compared by identity
+     * @param indices the indices to extract, must not be modified while {@code action} runs
+     * @param action e.g. {@code () -> validator.validateProperty(bean, "elements")}
+     * @param <R> the result type
+     * @return the result of {@code action}
+     */
+    public static <R> R restrictIndices(Seq<?> seq, BitSet indices, Supplier<R> action) {
+        return restrict(seq, new IndexFilter(indices::get, indices, Integer.MAX_VALUE), action);
+    }
+
+    /**
+     * Runs {@code action}, extracting only the keys and values of {@code map} whose key matches {@code keys}.
+     *
+     * @param map a {@code Map} instance, compared by identity
+     * @param keys the keys to extract
+     * @param action e.g. {@code () -> validator.validateProperty(bean, "entries")}
+     * @param <R> the result type
+     * @return the result of {@code action}
+     */
+    public static <R> R restrictKeys(Map<?, ?> map, Predicate<Object> keys, Supplier<R> action) {
+        return restrict(map, new KeyFilter(keys, null, Integer.MAX_VALUE), action);
+    }
+
+    /**
+     * Runs {@code action}, extracting only the given keys of {@code map} and their values. The keys are
+     * looked up instead of traversing {@code map}.
+     *
+     * @param map a {@code Map} instance, compared by identity
+     * @param keys the keys to extract, must not be modified while {@code action} runs
+     * @param action e.g. {@code () -> validator.validateProperty(bean, "entries")}
+     * @param <R> the result type
+     * @return the result of {@code action}
+     */
+    public static <R> R restrictKeys(Map<?, ?> map, Set<?> keys, Supplier<R> action) {
+        return restrict(map, new KeyFilter(keys::contains, keys, Integer.MAX_VALUE), action);
+    }
+
+    /**
+     * Runs {@code action}, extracting only the keys and values of {@code multimap} whose key matches {@code keys}.
+     *
+     * @param multimap a {@code Multimap} instance, compared by identity
+     * @param keys the keys to extract
+     * @param action e.g. {@code () -> validator.validateProperty(bean, "entries")}
+     * @param <R> the result type
+     * @return the result of {@code action}
+     */
+    public static <R> R restrictKeys(Multimap<?, ?> multimap, Predicate<Object> keys, Supplier<R> action) {
+        return restrict(multimap, new KeyFilter(keys, null, Integer.MAX_VALUE), action);
+    }
+
+    /**
+     * Runs {@code action}, extracting only the given keys of {@code multimap} and their values. The keys are
+     * looked up instead of traversing {@code multimap}.
+     *
+     * @param multimap a {@code Multimap} instance, compared by identity
+     * @param keys the keys to extract, must not be modified while {@code action} runs
+     * @param action e.g. {@code () -> validator.validateProperty(bean, "entries")}
+     * @param <R> the result type
+     * @return the result of {@code action}
+     */
+    public static <R> R restrictKeys(Multimap<?, ?> multimap, Set<?> keys, Supplier<R> action) {
+        return restrict(multimap, new KeyFilter(keys::contains, keys, Integer.MAX_VALUE), action);
+    }
+
+    /**
+     * Runs {@code action}, extracting at most the first elements of the given containers. A {@code Stream} is not
+     * evaluated beyond its last extracted element, and the keys extractor of a {@code Multimap} counts its distinct
+     * keys.
+     *
+     * @param maxElements the maximum number of elements to extract from each {@code Seq}, {@code Map} or
+     *                    {@code Multimap} instance, e.g. an {@code IdentityHashMap}, as they are compared by identity
+     * @param action e.g. {@code () -> validator.validate(bean)}
+     * @param <R> the result type
+     * @return the result of {@code action}
+     * @throws IllegalArgumentException if a container is of another type or a maximum is negative
+     */
+    public static <R> R limit(java.util.Map<?, Integer> maxElements, Supplier<R> action) {
+        final java.util.List<Object> containers = new ArrayList<>();
+        final java.util.List<Object> limits = new ArrayList<>();
+        for (java.util.Map.Entry<?, Integer> entry : maxElements.entrySet()) {
+            final Object container = Objects.requireNonNull(entry.getKey(), "container is null");
+            final int max = entry.getValue();
+            if (max < 0) {
+                throw new IllegalArgumentException("maxElements < 0");
+            }
+            if (container instanceof Seq) {
+                limits.add(new IndexFilter(null, null, max));
+            } else if (container instanceof Map || container instanceof Multimap) {
+                limits.add(new KeyFilter(null, null, max));
+            } else {
+                throw new IllegalArgumentException("cannot limit a " + container.getClass().getName());
+            }
+            containers.add(container);
+        }
+        if (containers.isEmpty()) {
+            return action.get();
+        }
+        final IdentityHashMap<Object, Object> filters = activeFilters();
+        final java.util.List<Object> outers = new ArrayList<>();
+        for (int i = 0; i < containers.size(); i++) {
+            outers.add(filters.put(containers.get(i), limits.get(i)));
+        }
+        try {
+            return action.get();
+        } finally {
+            for (int i = containers.size() - 1; i >= 0; i--) {
+                restore(filters, containers.get(i), outers.get(i));
+            }
+        }
+    }
+
+    /**
+     * Tells how many elements of {@code container} are extracted at most in the current scope.
+     *
+     * @param container a container instance, compared by identity
+     * @return the maximum given to {@link #limit(java.util.Map, Supplier)}, or {@code -1} if {@code container} is
+     * not limited
+     */
+    public static int limitOf(Object container) {
+        final Object filter = filterOf(container);
+        if (filter instanceof IndexFilter && ((IndexFilter) filter).test == null) {
+            return ((IndexFilter) filter).limit;
+        } else if (filter instanceof KeyFilter && ((KeyFilter) filter).test == null) {
+            return ((KeyFilter) filter).limit;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Runs {@code action}, extracting nothing from the given containers.
+     *
+     * @param containers container instances, compared by identity
+     * @param action e.g. {@code () -> validator.validate(bean)}
+     * @param <R> the result type
+     * @return the result of {@code action}
+     */
+    public static <R> R exclude(Iterable<?> containers, Supplier<R> action) {
+        final IdentityHashMap<Object, Object> filters = activeFilters();
+        final java.util.List<Object> excluded = new ArrayList<>();
+        final java.util.List<Object> outers = new ArrayList<>();
+        for (Object container : containers) {
+            if (container != null && filters.get(container) != EXCLUDED) {
+                excluded.add(container);
+                outers.add(filters.put(container, EXCLUDED));
+            }
+        }
+        if (excluded.isEmpty()) {
+            releaseIfEmpty(filters);
+            return action.get();
+        }
+        try {
+            return action.get();
+        } finally {
+            for (int i = excluded.size() - 1; i >= 0; i--) {
+                restore(filters, excluded.get(i), outers.get(i));
+            }
+        }
+    }
+
+    private static <R> R restrict(Object container, Object filter, Supplier<R> action) {
+        final IdentityHashMap<Object, Object> filters = activeFilters();
+        final Object outer = filters.put(container, filter);
+        try {
+            return action.get();
+        } finally {
+            restore(filters, container, outer);
+        }
+    }
+
+    private static IdentityHashMap<Object, Object> activeFilters() {
+        IdentityHashMap<Object, Object> filters = FILTERS.get();
+        if (filters == null) {
+            filters = new IdentityHashMap<>();
+            FILTERS.set(filters);
+            ACTIVE_THREADS.incrementAndGet();
+        }
+        return filters;
+    }
+
+    private static void restore(IdentityHashMap<Object, Object> filters, Object container, Object outer) {
+        if (outer != null) {
+            filters.put(container, outer);
+        } else {
+            filters.remove(container);
+            releaseIfEmpty(filters);
+        }
+    }
+
+    private static void releaseIfEmpty(IdentityHashMap<Object, Object> filters) {
+        if (filters.isEmpty()) {
+            FILTERS.remove();
+            ACTIVE_THREADS.decrementAndGet();
+        }
+    }
+
+    private static Object filterOf(Object container) {
+        if (ACTIVE_THREADS.get() == 0) {
+            return null;
+        }
+        final IdentityHashMap<Object, Object> filters = FILTERS.get();
+        return filters == null ? null : filters.get(container);
+    }
+
+    static IndexFilter indexFilter(Object seq) {
+        final Object filter = filterOf(seq);
+        return filter == EXCLUDED ? IndexFilter.NONE : (IndexFilter) filter;
+    }
+
+    static KeyFilter keyFilter(Object map) {
+        final Object filter = filterOf(map);
+        return filter == EXCLUDED ? KeyFilter.NONE : (KeyFilter) filter;
+    }
+
+    static boolean isExcluded(Object container) {
+        return filterOf(container) == EXCLUDED;
+    }
+
+    static final class IndexFilter {
+
+        static final IndexFilter NONE = new IndexFilter(index -> false, new BitSet(), 0);
+
+        /**
+         * The indices to extract, {@code null} for all up to the limit.
+         */
+        final IntPredicate test;
+
+        /**
+         * The exact indices, if known.
+         */
+        final BitSet indices;
+
+        final int limit;
+
+        IndexFilter(IntPredicate test, BitSet indices, int limit) {
+            this.test = test;
+            this.indices = indices;
+            this.limit = limit;
+        }
+    }
+
+    static final class KeyFilter {
+
+        static final KeyFilter NONE = new KeyFilter(key -> false, java.util.Collections.emptySet(), 0);
+
+        /**
+         * The keys to extract, {@code null} for all up to the limit.
+         */
+        final Predicate<Object> test;
+
+        /**
+         * The exact keys, if known.
+         */
+        final Set<?> keys;
+
+        final int limit;
+
+        KeyFilter(Predicate<Object> test, Set<?> keys, int limit) {
+            this.test = test;
+            this.keys = keys;
+            this.limit = limit;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import javax.validation.MessageInterpolator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stops the fail-fast extractors, e.g. {@link SeqValueExtractor#failFast(FailFastElements)}, from extracting
+ * further elements of a container once a number of violations was found within it, and counts the containers
+ * they stopped early.
+ * <p>
+ * An extractor does not see the violations of the elements it extracts. They are counted by the
+ * {@link #countingViolations(MessageInterpolator) message interpolator} of this instance instead, which the
+ * validator calls for each violation it creates, on the thread extracting the element. Both must be configured:
+ * <pre>{@code
+ * FailFastElements failFast = FailFastElements.after(1);
+ * Configuration<?> configuration = Validation.byDefaultProvider().configure();
+ * Validator validator = configuration
+ *         .messageInterpolator(failFast.countingViolations(configuration.getDefaultMessageInterpolator()))
+ *         .addValueExtractor(SeqValueExtractor.failFast(failFast))
+ *         .buildValidatorFactory()
+ *         .getValidator();
+ * }</pre>
+ * The remaining constraints of the element that exhausted the budget are still validated. Violations within
+ * nested containers count for the enclosing containers as well.
+ */
+public final class FailFastElements {
+
+    private static final ThreadLocal<Budget> CURRENT = new ThreadLocal<>();
+
+    private final int maxViolations;
+
+    private final LongAdder stopped = new LongAdder();
+
+    private FailFastElements(int maxViolations) {
+        this.maxViolations = maxViolations;
+    }
+
+    /**
+     * Stops extracting the elements of a container after {@code maxViolations} violations within it.
+     *
+     * @param maxViolations the number of violations per container to stop at, at least 1
+     * @return a fail-fast configuration
+     */
+    public static FailFastElements after(int maxViolations) {
+        if (maxViolations < 1) {
+            throw new IllegalArgumentException("maxViolations < 1");
+        }
+        return new FailFastElements(maxViolations);
+    }
+
+    /**
+     * Returns a message interpolator that counts the violations within the containers being extracted and
+     * delegates the interpolation.
+     *
+     * @param delegate the interpolator creating the messages, e.g.
+     *                 {@code Configuration#getDefaultMessageInterpolator()}
+     * @return a counting message interpolator
+     */
+    public MessageInterpolator countingViolations(MessageInterpolator delegate) {
+        Objects.requireNonNull(delegate, "delegate is null");
+        return new MessageInterpolator() {
+            @Override
+            public String interpolate(String messageTemplate, Context context) {
+                countViolation();
+                return delegate.interpolate(messageTemplate, context);
+            }
+
+            @Override
+            public String interpolate(String messageTemplate, Context context, Locale locale) {
+                countViolation();
+                return delegate.interpolate(messageTemplate, context, locale);
+            }
+        };
+    }
+
+    /**
+     * A {@code Stream} stopped at its last element is counted as well, because its end is not evaluated.
+     *
+     * @return the number of containers of which not all elements were extracted
+     */
+    public long stoppedCount() {
+        return stopped.sum();
+    }
+
+    private static void countViolation() {
+        for (Budget budget = CURRENT.get(); budget != null; budget = budget.outer) {
+            budget.violations++;
+        }
+    }
+
+    /**
+     * Opens the budget of a container on the current thread, to be {@link Budget#close(boolean) closed} after its
+     * extraction.
+     */
+    Budget open() {
+        final Budget budget = new Budget(this, CURRENT.get());
+        CURRENT.set(budget);
+        return budget;
+    }
+
+    static final class Budget {
+
+        private final FailFastElements failFast;
+        private final Budget outer;
+        private int violations;
+
+        private Budget(FailFastElements failFast, Budget outer) {
+            this.failFast = failFast;
+            this.outer = outer;
+        }
+
+        boolean isExhausted() {
+            return violations >= failFast.maxViolations;
+        }
+
+        /**
+         * @param complete whether all elements of the container were extracted
+         */
+        void close(boolean complete) {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+            if (!complete) {
+                failFast.stopped.increment();
+            }
+        }
+    }
+}
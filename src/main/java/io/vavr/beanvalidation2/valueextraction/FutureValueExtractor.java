@@ -0,0 +1,84 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import io.vavr.concurrent.Future;
+
+import javax.validation.valueextraction.ExtractedValue;
+import javax.validation.valueextraction.ValueExtractor;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Extracts the value of a successfully completed {@code Future} and nothing otherwise. Without it a
+ * {@code Future} would be validated as an {@code Iterable}, which blocks until the future completes.
+ * The node name is the one of the {@code Iterable} extractor, so the property paths do not change.
+ * <p>
+ * It is not in the service loader file, as a pending future would pass its element constraints unchecked. Register
+ * it with {@link io.vavr.beanvalidation2.VavrAsyncValidator#configure}, which validates pending futures once they
+ * have completed, or with {@link VavrExtractors#nonBlockingFutures()}.
+ */
+public class FutureValueExtractor implements ValueExtractor<Future<@ExtractedValue ?>> {
+
+    private static final String NODE_NAME = "<iterable element>";
+
+    private static final ThreadLocal<Set<Future<?>>> PENDING = new ThreadLocal<>();
+
+    @Override
+    public void extractValues(Future<?> originalValue, ValueReceiver receiver) {
+        if (originalValue.isSuccess()) {
+            receiver.iterableValue(NODE_NAME, originalValue.get());
+        } else if (!originalValue.isCompleted()) {
+            final Set<Future<?>> pending = PENDING.get();
+            if (pending != null) {
+                pending.add(originalValue);
+            }
+        }
+    }
+
+    /**
+     * Runs the given validation on the current thread and returns its result together with the futures
+     * whose values were not validated because they had not completed yet.
+     *
+     * @param validation a validation, e.g. {@code () -> validator.validate(bean)}
+     * @param <R> the result type
+     * @return the validation result and the pending futures, each once
+     */
+    public static <R> Tuple2<R, List<Future<?>>> trackPending(Supplier<R> validation) {
+        final Set<Future<?>> outer = PENDING.get();
+        final Set<Future<?>> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+        PENDING.set(pending);
+        try {
+            return Tuple.of(validation.get(), List.ofAll(pending));
+        } finally {
+            if (outer == null) {
+                PENDING.remove();
+            } else {
+                outer.addAll(pending);
+                PENDING.set(outer);
+            }
+        }
+    }
+}
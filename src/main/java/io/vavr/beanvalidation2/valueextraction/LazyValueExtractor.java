@@ -0,0 +1,104 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+
+import javax.validation.valueextraction.ExtractedValue;
+import javax.validation.valueextraction.ValueExtractor;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Extracts the value of a {@code Lazy}, evaluating it as the {@code Iterable} extractor does, except within
+ * {@link #trackUnevaluated(Supplier)}, which skips and returns the unevaluated ones so that validating a bean does
+ * not run their computations as a side effect. The node name is the one of the {@code Iterable} extractor, so the
+ * property paths do not change.
+ */
+public class LazyValueExtractor implements ValueExtractor<Lazy<@ExtractedValue ?>> {
+
+    private static final String NODE_NAME = "<iterable element>";
+
+    private static final ThreadLocal<Set<Lazy<?>>> UNEVALUATED = new ThreadLocal<>();
+
+    private final boolean force;
+
+    /**
+     * Evaluates a {@code Lazy} to validate its value, unless within {@link #trackUnevaluated(Supplier)}.
+     */
+    public LazyValueExtractor() {
+        this(true);
+    }
+
+    private LazyValueExtractor(boolean force) {
+        this.force = force;
+    }
+
+    /**
+     * Returns an extractor that never evaluates a {@code Lazy}, so that the element constraints of an unevaluated
+     * one are not checked. Register it via {@link javax.validation.Configuration#addValueExtractor(ValueExtractor)},
+     * which takes precedence over the extractor registered by this module.
+     *
+     * @return an extractor of the values of evaluated lazy values only
+     */
+    public static LazyValueExtractor nonForcing() {
+        return new LazyValueExtractor(false);
+    }
+
+    @Override
+    public void extractValues(Lazy<?> originalValue, ValueReceiver receiver) {
+        final Set<Lazy<?>> unevaluated = UNEVALUATED.get();
+        if (originalValue.isEvaluated() || (force && unevaluated == null)) {
+            receiver.iterableValue(NODE_NAME, originalValue.get());
+        } else if (unevaluated != null) {
+            unevaluated.add(originalValue);
+        }
+    }
+
+    /**
+     * Runs the given validation on the current thread without evaluating lazy values, and returns its result
+     * together with the ones that were not validated because they had not been evaluated yet. Validate the bean
+     * again once they are accessed to validate their values as well.
+     *
+     * @param validation a validation, e.g. {@code () -> validator.validate(bean)}
+     * @param <R> the result type
+     * @return the validation result and the unevaluated lazy values, each once
+     */
+    public static <R> Tuple2<R, List<Lazy<?>>> trackUnevaluated(Supplier<R> validation) {
+        final Set<Lazy<?>> outer = UNEVALUATED.get();
+        final Set<Lazy<?>> unevaluated = Collections.newSetFromMap(new IdentityHashMap<>());
+        UNEVALUATED.set(unevaluated);
+        try {
+            return Tuple.of(validation.get(), List.ofAll(unevaluated));
+        } finally {
+            if (outer == null) {
+                UNEVALUATED.remove();
+            } else {
+                outer.addAll(unevaluated);
+                UNEVALUATED.set(outer);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Map;
+import io.vavr.control.Option;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Entry traversal for the map extractors that does not allocate a {@code Tuple2} per entry, honouring
+ * the {@link ExtractionScope}. The actions return whether to continue, so that extraction can stop early.
+ */
+final class MapEntries {
+
+    private MapEntries() {
+    }
+
+    /**
+     * Like {@link #forEach(Map, BiPredicate)}, restricted to the entries matching {@code filter} if not {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> void forEach(Map<K, V> map, ExtractionScope.KeyFilter filter,
+                               BiPredicate<? super K, ? super V> action) {
+        if (filter == null || filter.test == null) {
+            forEach(map, action);
+        } else if (filter.keys != null) {
+            for (Object key : filter.keys) {
+                final Option<V> value = map.get((K) key);
+                if (value.isDefined() && !action.test((K) key, value.get())) {
+                    return;
+                }
+            }
+        } else {
+            forEach(map, (key, value) -> !filter.test.test(key) || action.test(key, value));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K> void forEachKey(Map<K, ?> map, ExtractionScope.KeyFilter filter, Predicate<? super K> action) {
+        if (filter != null && filter.keys != null) {
+            for (Object key : filter.keys) {
+                if (map.containsKey((K) key) && !action.test((K) key)) {
+                    return;
+                }
+            }
+        } else {
+            for (Iterator<K> keys = map.keysIterator(); keys.hasNext(); ) {
+                final K key = keys.next();
+                if ((filter == null || filter.test == null || filter.test.test(key)) && !action.test(key)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    static <K, V> void forEach(Map<K, V> map, BiPredicate<? super K, ? super V> action) {
+        if (map instanceof HashMap) {
+            // HashMap wraps each trie leaf into a new Tuple2 when iterated. Its keys and values iterators
+            // walk the very same leaves in the very same order, so they are read in lockstep instead.
+            final Iterator<K> keys = map.keysIterator();
+            final Iterator<V> values = map.valuesIterator();
+            while (keys.hasNext()) {
+                if (!action.test(keys.next(), values.next())) {
+                    return;
+                }
+            }
+        } else {
+            // TreeMap and LinkedHashMap hand out the tuples they store
+            for (Tuple2<K, V> entry : map) {
+                if (!action.test(entry._1, entry._2)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Like {@link #forEach(Map, BiPredicate)}, for a sample of the entries, recording the counts in {@code sampling}.
+     */
+    static <K, V> void forEachSampled(Map<K, V> map, ElementSampling sampling,
+                                      BiConsumer<? super K, ? super V> action) {
+        final int size = map.size();
+        final ElementSampling.Positions positions = sampling.positions(size);
+        final int[] state = { 0, positions.next(), 0 }; // position, next sampled position, sampled
+        if (state[1] < size) {
+            forEach(map, (key, value) -> {
+                if (state[0]++ == state[1]) {
+                    action.accept(key, value);
+                    state[2]++;
+                    state[1] = positions.next();
+                }
+                return state[1] < size;
+            });
+        }
+        sampling.record(state[2], size - state[2]);
+    }
+
+    /**
+     * Like {@link #forEachKey(Map, ExtractionScope.KeyFilter, Predicate)}, for a sample of the keys, recording the
+     * counts in {@code sampling}.
+     */
+    static <K> void forEachKeySampled(Map<K, ?> map, ElementSampling sampling, Consumer<? super K> action) {
+        final int size = map.size();
+        final ElementSampling.Positions positions = sampling.positions(size);
+        final Iterator<K> keys = map.keysIterator();
+        int sampled = 0;
+        int position = -1;
+        K key = null;
+        for (int next = positions.next(); next < size; next = positions.next()) {
+            while (position < next) {
+                key = keys.next();
+                position++;
+            }
+            action.accept(key);
+            sampled++;
+        }
+        sampling.record(sampled, size - sampled);
+    }
+
+    /**
+     * Like {@link #forEach(Map, BiPredicate)}, until the budget of {@code failFast} for the map is exhausted.
+     */
+    static <K, V> void forEachUntilExhausted(Map<K, V> map, FailFastElements failFast,
+                                             BiConsumer<? super K, ? super V> action) {
+        final FailFastElements.Budget budget = failFast.open();
+        final boolean[] stopped = { false };
+        try {
+            forEach(map, (key, value) -> {
+                if (budget.isExhausted()) {
+                    stopped[0] = true;
+                    return false;
+                }
+                action.accept(key, value);
+                return true;
+            });
+        } finally {
+            budget.close(!stopped[0]);
+        }
+    }
+
+    /**
+     * Like {@link #forEachKey(Map, ExtractionScope.KeyFilter, Predicate)}, until the budget of {@code failFast} for
+     * the map is exhausted.
+     */
+    static <K> void forEachKeyUntilExhausted(Map<K, ?> map, FailFastElements failFast, Consumer<? super K> action) {
+        final FailFastElements.Budget budget = failFast.open();
+        final boolean[] stopped = { false };
+        try {
+            forEachKey(map, null, key -> {
+                if (budget.isExhausted()) {
+                    stopped[0] = true;
+                    return false;
+                }
+                action.accept(key);
+                return true;
+            });
+        } finally {
+            budget.close(!stopped[0]);
+        }
+    }
+}
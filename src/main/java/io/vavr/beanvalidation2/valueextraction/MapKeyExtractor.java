@@ -21,6 +21,7 @@ package io.vavr.beanvalidation2.valueextraction;
 
 import javax.validation.valueextraction.ExtractedValue;
 import javax.validation.valueextraction.ValueExtractor;
+import java.util.Objects;
 
 import io.vavr.collection.Map;
 
@@ -28,8 +29,61 @@ public class MapKeyExtractor implements ValueExtractor<Map<@ExtractedValue ?, ?>
 
     private static final String MAP_KEY_NODE_NAME = "<map key>";
 
+    private final ExtractionMode mode;
+
+    /**
+     * Extracts all keys of a map.
+     */
+    public MapKeyExtractor() {
+        this(ExtractionMode.all());
+    }
+
+    /**
+     * @param mode selects the keys of a map to extract
+     */
+    public MapKeyExtractor(ExtractionMode mode) {
+        this.mode = Objects.requireNonNull(mode, "mode is null");
+    }
+
+    /**
+     * @param sampling selects the elements and counts them
+     * @return an extractor in the mode {@link ExtractionMode#sampling(ElementSampling)}
+     */
+    public static MapKeyExtractor sampling(ElementSampling sampling) {
+        return new MapKeyExtractor(ExtractionMode.sampling(sampling));
+    }
+
+    /**
+     * @param failFast counts the violations and the containers stopped early
+     * @return an extractor in the mode {@link ExtractionMode#failFast(FailFastElements)}
+     */
+    public static MapKeyExtractor failFast(FailFastElements failFast) {
+        return new MapKeyExtractor(ExtractionMode.failFast(failFast));
+    }
+
     @Override
     public void extractValues(Map<?, ?> originalValue, ValueReceiver receiver) {
-        originalValue.forEach(e -> receiver.keyedValue(MAP_KEY_NODE_NAME, e._1, e._1));
+        final ExtractionScope.KeyFilter filter = ExtractionScope.keyFilter(originalValue);
+        final ExtractionMode.Kind kind = filter == null ? mode.kind : ExtractionMode.Kind.ALL;
+        switch (kind) {
+            case SAMPLING:
+                MapEntries.forEachKeySampled(originalValue, mode.sampling,
+                        key -> receiver.keyedValue(MAP_KEY_NODE_NAME, key, key));
+                break;
+            case FAIL_FAST:
+                MapEntries.forEachKeyUntilExhausted(originalValue, mode.failFast,
+                        key -> receiver.keyedValue(MAP_KEY_NODE_NAME, key, key));
+                break;
+            default:
+                final int limit = filter == null ? Integer.MAX_VALUE : filter.limit;
+                if (limit == 0) {
+                    return;
+                }
+                final int[] extracted = { 0 };
+                MapEntries.forEachKey(originalValue, filter, key -> {
+                    receiver.keyedValue(MAP_KEY_NODE_NAME, key, key);
+                    return ++extracted[0] < limit;
+                });
+        }
     }
 }
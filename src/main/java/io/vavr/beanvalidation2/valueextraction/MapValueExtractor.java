@@ -23,13 +23,67 @@ import io.vavr.collection.Map;
 
 import javax.validation.valueextraction.ExtractedValue;
 import javax.validation.valueextraction.ValueExtractor;
+import java.util.Objects;
 
 public class MapValueExtractor implements ValueExtractor<Map<?, @ExtractedValue ?>> {
 
     private static final String MAP_VALUE_NODE_NAME = "<map value>";
 
+    private final ExtractionMode mode;
+
+    /**
+     * Extracts all values of a map.
+     */
+    public MapValueExtractor() {
+        this(ExtractionMode.all());
+    }
+
+    /**
+     * @param mode selects the values of a map to extract
+     */
+    public MapValueExtractor(ExtractionMode mode) {
+        this.mode = Objects.requireNonNull(mode, "mode is null");
+    }
+
+    /**
+     * @param sampling selects the elements and counts them
+     * @return an extractor in the mode {@link ExtractionMode#sampling(ElementSampling)}
+     */
+    public static MapValueExtractor sampling(ElementSampling sampling) {
+        return new MapValueExtractor(ExtractionMode.sampling(sampling));
+    }
+
+    /**
+     * @param failFast counts the violations and the containers stopped early
+     * @return an extractor in the mode {@link ExtractionMode#failFast(FailFastElements)}
+     */
+    public static MapValueExtractor failFast(FailFastElements failFast) {
+        return new MapValueExtractor(ExtractionMode.failFast(failFast));
+    }
+
     @Override
     public void extractValues(Map<?, ?> originalValue, ValueReceiver receiver) {
-        originalValue.forEach(e -> receiver.keyedValue(MAP_VALUE_NODE_NAME, e._1, e._2));
+        final ExtractionScope.KeyFilter filter = ExtractionScope.keyFilter(originalValue);
+        final ExtractionMode.Kind kind = filter == null ? mode.kind : ExtractionMode.Kind.ALL;
+        switch (kind) {
+            case SAMPLING:
+                MapEntries.forEachSampled(originalValue, mode.sampling,
+                        (key, value) -> receiver.keyedValue(MAP_VALUE_NODE_NAME, key, value));
+                break;
+            case FAIL_FAST:
+                MapEntries.forEachUntilExhausted(originalValue, mode.failFast,
+                        (key, value) -> receiver.keyedValue(MAP_VALUE_NODE_NAME, key, value));
+                break;
+            default:
+                final int limit = filter == null ? Integer.MAX_VALUE : filter.limit;
+                if (limit == 0) {
+                    return;
+                }
+                final int[] extracted = { 0 };
+                MapEntries.forEach(originalValue, filter, (key, value) -> {
+                    receiver.keyedValue(MAP_VALUE_NODE_NAME, key, value);
+                    return ++extracted[0] < limit;
+                });
+        }
     }
 }
@@ -23,14 +23,69 @@ import io.vavr.collection.Multimap;
 
 import javax.validation.valueextraction.ExtractedValue;
 import javax.validation.valueextraction.ValueExtractor;
+import java.util.Objects;
 
 public class MultimapKeyExtractor
         implements ValueExtractor<Multimap<@ExtractedValue ?, ?>> {
 
     private static final String MAP_KEY_NODE_NAME = "<map key>";
 
+    private final ExtractionMode mode;
+
+    /**
+     * Extracts all distinct keys of a multimap.
+     */
+    public MultimapKeyExtractor() {
+        this(ExtractionMode.all());
+    }
+
+    /**
+     * @param mode selects the distinct keys of a multimap to extract
+     */
+    public MultimapKeyExtractor(ExtractionMode mode) {
+        this.mode = Objects.requireNonNull(mode, "mode is null");
+    }
+
+    /**
+     * @param sampling selects the elements and counts them
+     * @return an extractor in the mode {@link ExtractionMode#sampling(ElementSampling)}
+     */
+    public static MultimapKeyExtractor sampling(ElementSampling sampling) {
+        return new MultimapKeyExtractor(ExtractionMode.sampling(sampling));
+    }
+
+    /**
+     * @param failFast counts the violations and the containers stopped early
+     * @return an extractor in the mode {@link ExtractionMode#failFast(FailFastElements)}
+     */
+    public static MultimapKeyExtractor failFast(FailFastElements failFast) {
+        return new MultimapKeyExtractor(ExtractionMode.failFast(failFast));
+    }
+
     @Override
     public void extractValues(Multimap<?, ?> originalValue, ValueReceiver receiver) {
-        originalValue.forEach(e -> receiver.keyedValue(MAP_KEY_NODE_NAME, e._1, e._1));
+        // walk the grouped backing map, each key is validated once no matter how many values it holds
+        final ExtractionScope.KeyFilter filter = ExtractionScope.keyFilter(originalValue);
+        final ExtractionMode.Kind kind = filter == null ? mode.kind : ExtractionMode.Kind.ALL;
+        switch (kind) {
+            case SAMPLING:
+                MapEntries.forEachKeySampled(originalValue.asMap(), mode.sampling,
+                        key -> receiver.keyedValue(MAP_KEY_NODE_NAME, key, key));
+                break;
+            case FAIL_FAST:
+                MapEntries.forEachKeyUntilExhausted(originalValue.asMap(), mode.failFast,
+                        key -> receiver.keyedValue(MAP_KEY_NODE_NAME, key, key));
+                break;
+            default:
+                final int limit = filter == null ? Integer.MAX_VALUE : filter.limit;
+                if (limit == 0) {
+                    return;
+                }
+                final int[] extracted = { 0 };
+                MapEntries.forEachKey(originalValue.asMap(), filter, key -> {
+                    receiver.keyedValue(MAP_KEY_NODE_NAME, key, key);
+                    return ++extracted[0] < limit;
+                });
+        }
     }
 }
@@ -23,14 +23,114 @@ import io.vavr.collection.Multimap;
 
 import javax.validation.valueextraction.ExtractedValue;
 import javax.validation.valueextraction.ValueExtractor;
+import java.util.Objects;
 
 public class MultimapValueExtractor
         implements ValueExtractor<Multimap<?, @ExtractedValue ?>> {
 
     private static final String MAP_VALUE_NODE_NAME = "<map value>";
 
+    private final ExtractionMode mode;
+
+    /**
+     * Extracts all values of a multimap.
+     */
+    public MultimapValueExtractor() {
+        this(ExtractionMode.all());
+    }
+
+    /**
+     * @param mode selects the values of a multimap to extract
+     */
+    public MultimapValueExtractor(ExtractionMode mode) {
+        this.mode = Objects.requireNonNull(mode, "mode is null");
+    }
+
+    /**
+     * @param sampling selects the elements and counts them
+     * @return an extractor in the mode {@link ExtractionMode#sampling(ElementSampling)}
+     */
+    public static MultimapValueExtractor sampling(ElementSampling sampling) {
+        return new MultimapValueExtractor(ExtractionMode.sampling(sampling));
+    }
+
+    /**
+     * @param failFast counts the violations and the containers stopped early
+     * @return an extractor in the mode {@link ExtractionMode#failFast(FailFastElements)}
+     */
+    public static MultimapValueExtractor failFast(FailFastElements failFast) {
+        return new MultimapValueExtractor(ExtractionMode.failFast(failFast));
+    }
+
     @Override
     public void extractValues(Multimap<?, ?> originalValue, ValueReceiver receiver) {
-        originalValue.forEach(e -> receiver.keyedValue(MAP_VALUE_NODE_NAME, e._1, e._2));
+        final ExtractionScope.KeyFilter filter = ExtractionScope.keyFilter(originalValue);
+        final ExtractionMode.Kind kind = filter == null ? mode.kind : ExtractionMode.Kind.ALL;
+        switch (kind) {
+            case SAMPLING:
+                extractSampled(originalValue, mode.sampling, receiver);
+                break;
+            case FAIL_FAST:
+                extractFailFast(originalValue, mode.failFast, receiver);
+                break;
+            default:
+                final int limit = filter == null ? Integer.MAX_VALUE : filter.limit;
+                if (limit == 0) {
+                    return;
+                }
+                final int[] extracted = { 0 };
+                MapEntries.forEach(originalValue.asMap(), filter, (key, values) -> {
+                    for (Object value : values) {
+                        receiver.keyedValue(MAP_VALUE_NODE_NAME, key, value);
+                        if (++extracted[0] == limit) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+        }
+    }
+
+    private static void extractFailFast(Multimap<?, ?> multimap, FailFastElements failFast,
+                                        ValueReceiver receiver) {
+        final FailFastElements.Budget budget = failFast.open();
+        final boolean[] stopped = { false };
+        try {
+            MapEntries.forEach(multimap.asMap(), (key, values) -> {
+                for (Object value : values) {
+                    if (budget.isExhausted()) {
+                        stopped[0] = true;
+                        return false;
+                    }
+                    receiver.keyedValue(MAP_VALUE_NODE_NAME, key, value);
+                }
+                return true;
+            });
+        } finally {
+            budget.close(!stopped[0]);
+        }
+    }
+
+    private static void extractSampled(Multimap<?, ?> multimap, ElementSampling sampling,
+                                       ValueReceiver receiver) {
+        final int size = multimap.size();
+        final ElementSampling.Positions positions = sampling.positions(size);
+        final int[] state = { 0, positions.next(), 0 }; // position, next sampled position, sampled
+        if (state[1] < size) {
+            MapEntries.forEach(multimap.asMap(), (key, values) -> {
+                for (Object value : values) {
+                    if (state[0]++ == state[1]) {
+                        receiver.keyedValue(MAP_VALUE_NODE_NAME, key, value);
+                        state[2]++;
+                        state[1] = positions.next();
+                        if (state[1] >= size) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            });
+        }
+        sampling.record(state[2], size - state[2]);
     }
 }
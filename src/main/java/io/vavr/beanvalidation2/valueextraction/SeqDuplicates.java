@@ -0,0 +1,85 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The indices that {@link SeqValueExtractor} skipped in
+ * {@link SeqValueExtractor#skipDuplicates(java.util.function.Supplier) duplicate skipping mode}, because they hold
+ * the same instance as a lower index of the same {@code Seq}.
+ */
+public final class SeqDuplicates {
+
+    /**
+     * The index of the first occurrence of the element at each index, for each {@code Seq} with duplicates.
+     */
+    private final IdentityHashMap<Seq<?>, int[]> firstIndices = new IdentityHashMap<>();
+
+    /**
+     * The duplicates of each first occurrence, computed on demand.
+     */
+    private final IdentityHashMap<Seq<?>, Map<Integer, List<Integer>>> duplicates = new IdentityHashMap<>();
+
+    SeqDuplicates() {
+    }
+
+    /**
+     * Returns the indices of {@code seq} that were skipped because they hold the same instance as {@code index}.
+     *
+     * @param seq a {@code Seq} instance, compared by identity
+     * @param index the index of the first occurrence of an element
+     * @return the indices of the other occurrences, in ascending order, empty if there are none
+     */
+    public List<Integer> of(Seq<?> seq, int index) {
+        final int[] firstIndexAt = firstIndices.get(seq);
+        if (firstIndexAt == null) {
+            return List.empty();
+        }
+        final List<Integer> indices = duplicates.computeIfAbsent(seq, ignored -> group(firstIndexAt)).get(index);
+        return indices == null ? List.empty() : indices;
+    }
+
+    /**
+     * @return {@code true} if no index was skipped
+     */
+    public boolean isEmpty() {
+        return firstIndices.isEmpty();
+    }
+
+    void record(Seq<?> seq, int[] firstIndexAt) {
+        firstIndices.putIfAbsent(seq, firstIndexAt);
+    }
+
+    private static Map<Integer, List<Integer>> group(int[] firstIndexAt) {
+        final Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int index = firstIndexAt.length - 1; index >= 0; index--) {
+            if (firstIndexAt[index] != index) {
+                groups.merge(firstIndexAt[index], List.of(index), (indices, added) -> indices.prependAll(added));
+            }
+        }
+        return groups;
+    }
+}
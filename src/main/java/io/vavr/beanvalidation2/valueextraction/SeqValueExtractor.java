@@ -19,20 +19,284 @@
  */
 package io.vavr.beanvalidation2.valueextraction;
 
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.List;
 import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
 
 import javax.validation.valueextraction.ExtractedValue;
 import javax.validation.valueextraction.ValueExtractor;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 public class SeqValueExtractor implements ValueExtractor<Seq<@ExtractedValue ?>> {
 
     private static final String SEQ_INDEX_NODE_NAME = "<sequence element>";
 
+    private static final ThreadLocal<SeqDuplicates> DUPLICATES = new ThreadLocal<>();
+
+    private final ExtractionMode mode;
+
+    /**
+     * Extracts all elements of a sequence.
+     */
+    public SeqValueExtractor() {
+        this(ExtractionMode.all());
+    }
+
+    /**
+     * @param mode selects the elements of a sequence to extract
+     */
+    public SeqValueExtractor(ExtractionMode mode) {
+        this.mode = Objects.requireNonNull(mode, "mode is null");
+    }
+
+    /**
+     * @param sampling selects the elements and counts them
+     * @return an extractor in the mode {@link ExtractionMode#sampling(ElementSampling)}
+     */
+    public static SeqValueExtractor sampling(ElementSampling sampling) {
+        return new SeqValueExtractor(ExtractionMode.sampling(sampling));
+    }
+
+    /**
+     * @param failFast counts the violations and the containers stopped early
+     * @return an extractor in the mode {@link ExtractionMode#failFast(FailFastElements)}
+     */
+    public static SeqValueExtractor failFast(FailFastElements failFast) {
+        return new SeqValueExtractor(ExtractionMode.failFast(failFast));
+    }
+
     @Override
     public void extractValues(Seq<?> originalValue, ValueReceiver receiver) {
+        final ExtractionScope.IndexFilter filter = ExtractionScope.indexFilter(originalValue);
+        if (filter != null) {
+            if (filter.test == null) {
+                extract(originalValue, filter.limit, null, receiver);
+            } else {
+                extractFiltered(originalValue, filter, receiver);
+            }
+            return;
+        }
+        switch (mode.kind) {
+            case SAMPLING:
+                extractSampled(originalValue, mode.sampling, receiver);
+                break;
+            case FAIL_FAST:
+                extractFailFast(originalValue, mode.failFast, receiver);
+                break;
+            default:
+                final SeqDuplicates duplicates = DUPLICATES.get();
+                if (duplicates != null) {
+                    extractDistinct(originalValue, duplicates, receiver);
+                } else {
+                    extract(originalValue, Integer.MAX_VALUE, null, receiver);
+                }
+        }
+    }
+
+    /**
+     * Extracts the elements up to {@code maxElements}, or until {@code budget} is exhausted if not {@code null}.
+     *
+     * @return {@code true} if all elements were extracted, {@code false} if not or unknown
+     */
+    private static boolean extract(Seq<?> seq, int maxElements, FailFastElements.Budget budget,
+                                   ValueReceiver receiver) {
+        // each branch keeps its loop monomorphic; Array is final and the implementations of the List and Stream
+        // interfaces are all vavr-internal, so each branch handles the whole type
+        if (seq instanceof Array) {
+            return extractArray((Array<?>) seq, maxElements, budget, receiver);
+        } else if (seq instanceof List) {
+            return extractList((List<?>) seq, maxElements, budget, receiver);
+        } else if (seq instanceof Stream) {
+            return extractStream((Stream<?>) seq, maxElements, budget, receiver);
+        } else {
+            // Vector's iterator already walks the leaf arrays of its trie, Queue does not expose its lists
+            return extractIterable(seq, maxElements, budget, receiver);
+        }
+    }
+
+    private static boolean extractArray(Array<?> array, int maxElements, FailFastElements.Budget budget,
+                                        ValueReceiver receiver) {
+        final int length = Math.min(array.length(), maxElements);
+        int index = 0;
+        while (index < length) {
+            receiver.indexedValue(SEQ_INDEX_NODE_NAME, index, array.get(index));
+            index++;
+            if (budget != null && budget.isExhausted()) {
+                break;
+            }
+        }
+        return index == array.length();
+    }
+
+    private static boolean extractList(List<?> list, int maxElements, FailFastElements.Budget budget,
+                                       ValueReceiver receiver) {
         int index = 0; // avoid access by index because of O(n) performance of List
-        for (Object element : originalValue) {
-            receiver.indexedValue(SEQ_INDEX_NODE_NAME, index++, element);
+        List<?> cell = list;
+        while (index < maxElements && !cell.isEmpty()) {
+            receiver.indexedValue(SEQ_INDEX_NODE_NAME, index++, cell.head());
+            cell = cell.tail();
+            if (budget != null && budget.isExhausted()) {
+                break;
+            }
+        }
+        return cell.isEmpty();
+    }
+
+    private static boolean extractStream(Stream<?> stream, int maxElements, FailFastElements.Budget budget,
+                                         ValueReceiver receiver) {
+        if (maxElements == 0) {
+            return stream.isEmpty();
+        }
+        int index = 0;
+        for (Stream<?> cell = stream; !cell.isEmpty(); cell = cell.tail()) {
+            receiver.indexedValue(SEQ_INDEX_NODE_NAME, index++, cell.head());
+            // stops before the tail, so that no further cell of an infinite stream is evaluated
+            if (index == maxElements || (budget != null && budget.isExhausted())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean extractIterable(Seq<?> seq, int maxElements, FailFastElements.Budget budget,
+                                           ValueReceiver receiver) {
+        int index = 0;
+        final java.util.Iterator<?> elements = seq.iterator();
+        while (index < maxElements && elements.hasNext()) {
+            receiver.indexedValue(SEQ_INDEX_NODE_NAME, index++, elements.next());
+            if (budget != null && budget.isExhausted()) {
+                break;
+            }
+        }
+        // the remaining sequences are strict, asking for a next element evaluates nothing
+        return !elements.hasNext();
+    }
+
+    private static void extractFiltered(Seq<?> seq, ExtractionScope.IndexFilter filter, ValueReceiver receiver) {
+        if (filter.indices != null && filter.indices.isEmpty()) {
+            return;
+        }
+        if (filter.indices != null && seq instanceof IndexedSeq) {
+            final int length = seq.length();
+            for (int index = filter.indices.nextSetBit(0); index >= 0 && index < length;
+                 index = filter.indices.nextSetBit(index + 1)) {
+                receiver.indexedValue(SEQ_INDEX_NODE_NAME, index, seq.get(index));
+            }
+            return;
+        }
+        int index = 0;
+        for (java.util.Iterator<?> elements = seq.iterator(); elements.hasNext(); ) {
+            final Object element = elements.next();
+            if (filter.test.test(index)) {
+                receiver.indexedValue(SEQ_INDEX_NODE_NAME, index, element);
+            }
+            index++;
+        }
+    }
+
+    private static void extractSampled(Seq<?> seq, ElementSampling sampling, ValueReceiver receiver) {
+        if (!seq.hasDefiniteSize()) {
+            throw new IllegalArgumentException("cannot sample a " + seq.stringPrefix() + ", its size is not definite");
+        }
+        final int size = seq.size();
+        final ElementSampling.Positions positions = sampling.positions(size);
+        int sampled = 0;
+        if (seq instanceof IndexedSeq) {
+            for (int index = positions.next(); index < size; index = positions.next()) {
+                receiver.indexedValue(SEQ_INDEX_NODE_NAME, index, seq.get(index));
+                sampled++;
+            }
+        } else {
+            // stops at the last sampled element
+            final java.util.Iterator<?> elements = seq.iterator();
+            int index = 0;
+            for (int next = positions.next(); next < size; next = positions.next()) {
+                for (; index < next; index++) {
+                    elements.next();
+                }
+                receiver.indexedValue(SEQ_INDEX_NODE_NAME, index++, elements.next());
+                sampled++;
+            }
+        }
+        sampling.record(sampled, size - sampled);
+    }
+
+    private static void extractFailFast(Seq<?> seq, FailFastElements failFast, ValueReceiver receiver) {
+        final FailFastElements.Budget budget = failFast.open();
+        boolean complete = false;
+        try {
+            complete = extract(seq, Integer.MAX_VALUE, budget, receiver);
+        } finally {
+            budget.close(complete);
+        }
+    }
+
+    private static void extractDistinct(Seq<?> seq, SeqDuplicates duplicates, ValueReceiver receiver) {
+        final IdentityHashMap<Object, Integer> firstIndices = new IdentityHashMap<>();
+        int[] firstIndexAt = null; // allocated with the first duplicate
+        Object previous = null;
+        int previousFirstIndex = -1;
+        int index = 0;
+        for (java.util.Iterator<?> elements = seq.iterator(); elements.hasNext(); ) {
+            final Object element = elements.next();
+            // padding repeats the same instance at consecutive indices, which saves the lookup
+            final int firstIndex;
+            if (element == previous && previousFirstIndex >= 0) {
+                firstIndex = previousFirstIndex;
+            } else {
+                final Integer known = firstIndices.putIfAbsent(element, index);
+                firstIndex = known == null ? index : known;
+            }
+            if (firstIndex == index) {
+                receiver.indexedValue(SEQ_INDEX_NODE_NAME, index, element);
+            } else if (firstIndexAt == null) {
+                firstIndexAt = new int[Math.max(16, 2 * index)]; // not sized by seq, which may be infinite
+                for (int i = 0; i < index; i++) {
+                    firstIndexAt[i] = i;
+                }
+            }
+            if (firstIndexAt != null) {
+                if (index == firstIndexAt.length) {
+                    firstIndexAt = Arrays.copyOf(firstIndexAt, 2 * index);
+                }
+                firstIndexAt[index] = firstIndex;
+            }
+            previous = element;
+            previousFirstIndex = firstIndex;
+            index++;
+        }
+        if (firstIndexAt != null) {
+            duplicates.record(seq, Arrays.copyOf(firstIndexAt, index));
+        }
+    }
+
+    /**
+     * Runs the given validation on the current thread, extracting each element instance of a {@code Seq} only at
+     * the first index it occurs. The violations found at that index apply to the returned duplicates as well.
+     *
+     * @param validation a validation, e.g. {@code () -> validator.validate(bean)}
+     * @param <R> the result type
+     * @return the validation result and the skipped duplicates
+     */
+    public static <R> Tuple2<R, SeqDuplicates> skipDuplicates(Supplier<R> validation) {
+        final SeqDuplicates outer = DUPLICATES.get();
+        final SeqDuplicates duplicates = new SeqDuplicates();
+        DUPLICATES.set(duplicates);
+        try {
+            return Tuple.of(validation.get(), duplicates);
+        } finally {
+            if (outer == null) {
+                DUPLICATES.remove();
+            } else {
+                DUPLICATES.set(outer);
+            }
         }
     }
 }
@@ -0,0 +1,301 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Seq;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+
+import javax.validation.Configuration;
+import javax.validation.valueextraction.ValueExtractor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Profiles of the value extractors of this module, to register only the extractors an application needs instead of
+ * the all-in service loader file, which makes the provider load all of them, including the 36 tuple extractors, at
+ * bootstrap. Use the {@code noservices} artifact, which has no service loader file, and register a profile:
+ * <pre>{@code
+ * Validator validator = VavrExtractors.addTo(Validation.byDefaultProvider().configure(),
+ *         VavrExtractors.collectionsOnly().appendAll(VavrExtractors.tuplesUpTo(3)))
+ *         .buildValidatorFactory()
+ *         .getValidator();
+ * }</pre>
+ * With the default artifact the extractors of a profile replace the service loaded ones of the same type.
+ */
+public final class VavrExtractors {
+
+    private static final int MAX_TUPLE_ARITY = 8;
+
+    private static final List<Class<?>> CONTAINERS =
+            List.of(Seq.class, Map.class, Multimap.class, Either.class, Future.class, Lazy.class, Tuple.class);
+
+    private VavrExtractors() {
+    }
+
+    /**
+     * @return all extractors, as listed in the service loader file
+     */
+    public static List<ValueExtractor<?>> all() {
+        return collectionsOnly().appendAll(wrappersOnly()).appendAll(tuplesUpTo(MAX_TUPLE_ARITY));
+    }
+
+    /**
+     * @return the extractors of the elements of a {@code Seq} and of the keys and values of a {@code Map} and a
+     * {@code Multimap}
+     */
+    public static List<ValueExtractor<?>> collectionsOnly() {
+        return seq().appendAll(map()).appendAll(multimap());
+    }
+
+    /**
+     * @return the extractors of the value of an {@code Either} and a {@code Lazy}
+     */
+    public static List<ValueExtractor<?>> wrappersOnly() {
+        return either().appendAll(lazy());
+    }
+
+    /**
+     * Not part of {@link #all()}, because the elements of pending futures are not validated, see
+     * {@link io.vavr.beanvalidation2.VavrAsyncValidator}. Without it, the value of a {@code Future} is extracted as
+     * the single element of an {@code Iterable}, which blocks until the future has completed.
+     *
+     * @return the extractor of the value of a {@code Future} that has completed successfully
+     */
+    public static List<ValueExtractor<?>> nonBlockingFutures() {
+        return List.of(new FutureValueExtractor());
+    }
+
+    /**
+     * @param arity the greatest arity of the tuples to extract the elements of, between 0 and 8
+     * @return the extractors of all positions of the tuples up to {@code arity}
+     */
+    public static List<ValueExtractor<?>> tuplesUpTo(int arity) {
+        if (arity < 0 || arity > MAX_TUPLE_ARITY) {
+            throw new IllegalArgumentException("arity must be between 0 and " + MAX_TUPLE_ARITY);
+        }
+        List<ValueExtractor<?>> extractors = List.empty();
+        for (int i = 1; i <= arity; i++) {
+            extractors = extractors.appendAll(tuple(i));
+        }
+        return extractors;
+    }
+
+    /**
+     * Discovers the extractors needed to validate the given bean types, from the declared types of their fields and
+     * getters, including the type arguments, and of the beans these refer to. A {@code Future} needs no extractor,
+     * see {@link #nonBlockingFutures()}.
+     *
+     * @param beanTypes the types of the beans to validate
+     * @return the extractors of the vavr containers used by {@code beanTypes}
+     * @throws IllegalArgumentException if a type is declared as a vavr supertype of several containers, like
+     * {@code Traversable}, {@code Value} or {@code Tuple}, as the container it holds is not known
+     */
+    public static List<ValueExtractor<?>> forBeans(Class<?>... beanTypes) {
+        final Set<Class<?>> containers = new LinkedHashSet<>();
+        final Set<Type> visited = new HashSet<>();
+        for (Class<?> beanType : beanTypes) {
+            collectContainers(beanType, containers, visited);
+        }
+        return List.ofAll(containers)
+                .flatMap(VavrExtractors::forContainer)
+                .distinctBy(Object::getClass);
+    }
+
+    /**
+     * Registers {@code extractors} via {@link Configuration#addValueExtractor(ValueExtractor)}.
+     *
+     * @param configuration the configuration to add to
+     * @param extractors    the extractors to register, e.g. a profile of this class
+     * @param <C>           the type of the configuration
+     * @return {@code configuration}
+     */
+    public static <C extends Configuration<?>> C addTo(C configuration,
+                                                       Iterable<? extends ValueExtractor<?>> extractors) {
+        for (ValueExtractor<?> extractor : extractors) {
+            configuration.addValueExtractor(extractor);
+        }
+        return configuration;
+    }
+
+    private static void collectContainers(Class<?> beanType, Set<Class<?>> containers, Set<Type> visited) {
+        if (!visited.add(beanType) || !isBean(beanType)) {
+            return;
+        }
+        for (Class<?> type = beanType; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    collectContainers(field.getGenericType(), containers, visited);
+                }
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                if (isGetter(method)) {
+                    collectContainers(method.getGenericReturnType(), containers, visited);
+                }
+            }
+        }
+    }
+
+    private static void collectContainers(Type type, Set<Class<?>> containers, Set<Type> visited) {
+        if (type instanceof Class) {
+            final Class<?> rawType = (Class<?>) type;
+            if (rawType.isArray()) {
+                collectContainers(rawType.getComponentType(), containers, visited);
+            } else if (isAmbiguousContainer(rawType)) {
+                throw new IllegalArgumentException("cannot tell the container type of " + rawType.getName()
+                        + ", declare a container type like Seq or Map, or register all()");
+            } else if (isContainer(rawType)) {
+                containers.add(rawType);
+            } else {
+                collectContainers(rawType, containers, visited);
+            }
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            collectContainers(parameterizedType.getRawType(), containers, visited);
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                collectContainers(argument, containers, visited);
+            }
+        } else if (type instanceof GenericArrayType) {
+            collectContainers(((GenericArrayType) type).getGenericComponentType(), containers, visited);
+        } else if (type instanceof WildcardType) {
+            for (Type bound : ((WildcardType) type).getUpperBounds()) {
+                collectContainers(bound, containers, visited);
+            }
+        } else if (type instanceof TypeVariable && visited.add(type)) {
+            // the type a variable stands for is unknown, but its bounds are
+            for (Type bound : ((TypeVariable<?>) type).getBounds()) {
+                collectContainers(bound, containers, visited);
+            }
+        }
+    }
+
+    /**
+     * Tests if {@code type} is a type of vavr, not of this module.
+     *
+     * @param type a type
+     * @return whether {@code type} is in a package of vavr, other than {@code io.vavr.beanvalidation2}
+     */
+    public static boolean isVavr(Class<?> type) {
+        final String name = type.getName();
+        return name.startsWith("io.vavr.") && !name.startsWith("io.vavr.beanvalidation2.");
+    }
+
+    private static boolean isBean(Class<?> type) {
+        final String name = type.getName();
+        return !type.isPrimitive() && !type.isEnum() && !name.startsWith("java.") && !name.startsWith("javax.")
+                && !isVavr(type);
+    }
+
+    private static boolean isGetter(Method method) {
+        final String name = method.getName();
+        return !Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0
+                && method.getReturnType() != void.class && (name.startsWith("get") || name.startsWith("is"));
+    }
+
+    private static boolean isContainer(Class<?> type) {
+        return CONTAINERS.exists(container -> container.isAssignableFrom(type));
+    }
+
+    /**
+     * Tests if {@code type} is a vavr type that several containers with different extractors implement, e.g.
+     * {@code Traversable} or {@code Tuple}.
+     */
+    private static boolean isAmbiguousContainer(Class<?> type) {
+        return type == Tuple.class || (isVavr(type) && !isContainer(type)
+                && CONTAINERS.exists(type::isAssignableFrom));
+    }
+
+    private static List<ValueExtractor<?>> forContainer(Class<?> type) {
+        if (Seq.class.isAssignableFrom(type)) {
+            return seq();
+        } else if (Map.class.isAssignableFrom(type)) {
+            return map();
+        } else if (Multimap.class.isAssignableFrom(type)) {
+            return multimap();
+        } else if (Either.class.isAssignableFrom(type)) {
+            return either();
+        } else if (Future.class.isAssignableFrom(type)) {
+            return List.empty();
+        } else if (Lazy.class.isAssignableFrom(type)) {
+            return lazy();
+        } else {
+            // Tuple1 to Tuple8, there is no extractor for Tuple0
+            final int arity = type.getTypeParameters().length;
+            return arity == 0 ? List.empty() : tuple(arity);
+        }
+    }
+
+    private static List<ValueExtractor<?>> seq() {
+        return List.of(new SeqValueExtractor());
+    }
+
+    private static List<ValueExtractor<?>> map() {
+        return List.of(new MapKeyExtractor(), new MapValueExtractor());
+    }
+
+    private static List<ValueExtractor<?>> multimap() {
+        return List.of(new MultimapKeyExtractor(), new MultimapValueExtractor());
+    }
+
+    private static List<ValueExtractor<?>> either() {
+        return List.of(new EitherLeftExtractor(), new EitherRightExtractor());
+    }
+
+    private static List<ValueExtractor<?>> lazy() {
+        return List.of(new LazyValueExtractor());
+    }
+
+    private static List<ValueExtractor<?>> tuple(int arity) {
+        switch (arity) {
+            case 1:
+                return Tuple1Extractor.extractors();
+            case 2:
+                return Tuple2Extractor.extractors();
+            case 3:
+                return Tuple3Extractor.extractors();
+            case 4:
+                return Tuple4Extractor.extractors();
+            case 5:
+                return Tuple5Extractor.extractors();
+            case 6:
+                return Tuple6Extractor.extractors();
+            case 7:
+                return Tuple7Extractor.extractors();
+            case 8:
+                return Tuple8Extractor.extractors();
+            default:
+                throw new IllegalArgumentException("arity must be between 1 and " + MAX_TUPLE_ARITY);
+        }
+    }
+}
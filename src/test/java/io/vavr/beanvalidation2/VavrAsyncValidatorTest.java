@@ -0,0 +1,171 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.collection.HashSet;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VavrAsyncValidatorTest {
+
+	private ExecutorService executor;
+	private VavrAsyncValidator validator;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newCachedThreadPool();
+		validator = new VavrAsyncValidator(newValidator(), executor);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test(timeout = 5000)
+	public void testWithoutPendingFuturesCompletesRightAway() {
+		// given
+		TestBean subject = new TestBean("toolong", Future.successful(""), Future.successful(new Child(-1)));
+
+		// when
+		Future<Set<ConstraintViolation<TestBean>>> violations = validator.validateAsync(subject);
+
+		// then
+		assertThat(violations.isCompleted()).isTrue();
+		assertThat(paths(violations.get())).containsOnly("name", "label", "child.age");
+	}
+
+	@Test(timeout = 5000)
+	public void testPendingFuturesAreValidatedOnceCompleted() throws InterruptedException {
+		// given
+		Promise<String> label = Promise.make();
+		Promise<Child> child = Promise.make();
+		TestBean subject = new TestBean("toolong", label.future(), child.future());
+
+		// when
+		Future<Set<ConstraintViolation<TestBean>>> violations = validator.validateAsync(subject);
+
+		// then
+		assertThat(violations.isCompleted()).isFalse();
+		label.success("");
+		Thread.sleep(100);
+		assertThat(violations.isCompleted()).isFalse();
+		child.success(new Child(-1));
+		assertThat(paths(violations.await().get())).containsOnly("name", "label", "child.age");
+	}
+
+	@Test(timeout = 5000)
+	public void testFailedFuturesHaveNoValueToValidate() {
+		// given
+		Promise<String> label = Promise.make();
+		TestBean subject = new TestBean("ok", label.future(), Future.successful(new Child(1)));
+
+		// when
+		Future<Set<ConstraintViolation<TestBean>>> violations = validator.validateAsync(subject);
+		label.failure(new IllegalStateException());
+
+		// then
+		assertThat(violations.await().get()).isEmpty();
+	}
+
+	@Test(timeout = 5000)
+	public void testFuturesStillPendingAfterTheLastPassFailTheValidation() {
+		// given
+		VavrAsyncValidator validator = new VavrAsyncValidator(newValidator(), executor, 3);
+		FreshFutureBean subject = new FreshFutureBean(executor);
+
+		// when
+		Future<Set<ConstraintViolation<FreshFutureBean>>> violations = validator.validateAsync(subject);
+
+		// then
+		assertThat(violations.await().getCause().get()).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLessThanTwoPassesAreRejected() {
+		new VavrAsyncValidator(newValidator(), executor, 1);
+	}
+
+	private static Validator newValidator() {
+		return VavrAsyncValidator.configure(Validation.byDefaultProvider().configure())
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static <T> io.vavr.collection.Set<String> paths(Set<ConstraintViolation<T>> violations) {
+		// drops the container element nodes, which are rendered differently by different providers
+		return HashSet.ofAll(violations).map(v -> v.getPropertyPath().toString().replaceAll("\\[[^]]*]|\\.<[a-z ]+>", ""));
+	}
+
+	private static final class TestBean {
+		@Size(max = 3)
+		private final String name;
+
+		private final Future<@NotBlank String> label;
+
+		private final Future<@Valid Child> child;
+
+		TestBean(String name, Future<String> label, Future<Child> child) {
+			this.name = name;
+			this.label = label;
+			this.child = child;
+		}
+	}
+
+	private static final class FreshFutureBean {
+		private final ExecutorService executor;
+
+		FreshFutureBean(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		public Future<@NotBlank String> getLabel() {
+			return Future.of(executor, () -> {
+				Thread.sleep(20);
+				return "label";
+			});
+		}
+	}
+
+	private static final class Child {
+		@Positive
+		private final int age;
+
+		Child(int age) {
+			this.age = age;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Validation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.BeanDescriptor;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VavrBatchValidatorTest {
+
+	private ExecutorService executor;
+	private Validator validator;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newCachedThreadPool();
+		validator = ValidatorSupplier.INSTANCE.get();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void violationsShouldBeReturnedByIndexOfInvalidBeans() {
+		// given
+		VavrBatchValidator batchValidator = new VavrBatchValidator(validator, executor, 4);
+		List<TestBean> beans = List.range(0, 1000).map(i -> new TestBean(i % 100 == 42 ? "" : "name", i % 250 == 3 ? 0 : 1));
+
+		// when
+		Map<Integer, Seq<ConstraintViolation<TestBean>>> violations = batchValidator.validateAll(beans);
+
+		// then
+		assertThat(violations.keySet()).containsExactly(3, 42, 142, 242, 253, 342, 442, 503, 542, 642, 742, 753, 842, 942);
+		assertThat(violations.get(42).get().map(v -> v.getPropertyPath().toString())).containsExactly("name");
+		assertThat(violations.get(253).get().map(v -> v.getRootBean())).containsExactly(beans.get(253));
+	}
+
+	@Test
+	public void eachBeanShouldBeValidOrHaveItsViolations() {
+		// given
+		VavrBatchValidator batchValidator = new VavrBatchValidator(validator, executor, 2);
+		TestBean valid = new TestBean("name", 1);
+		Vector<TestBean> beans = Vector.of(valid, new TestBean("", 0), valid);
+
+		// when
+		Seq<Validation<Seq<ConstraintViolation<TestBean>>, TestBean>> validations = batchValidator.validateEach(beans);
+
+		// then
+		assertThat(validations.map(Validation::isValid)).containsExactly(true, false, true);
+		assertThat(validations.get(0).get()).isSameAs(valid);
+		assertThat(validations.get(1).getError()).hasSize(2);
+	}
+
+	@Test
+	public void noMoreThanParallelismBeansShouldBeValidatedAtOnce() {
+		// given
+		AtomicInteger tasks = new AtomicInteger();
+		ConcurrencyRecordingValidator counting = new ConcurrencyRecordingValidator(validator);
+		VavrBatchValidator batchValidator = new VavrBatchValidator(counting, command -> {
+			tasks.incrementAndGet();
+			executor.execute(command);
+		}, 3);
+
+		// when
+		batchValidator.validateAll(List.fill(100, new TestBean("name", 1)));
+
+		// then
+		assertThat(counting.maximum.get()).isLessThanOrEqualTo(3);
+		assertThat(tasks.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void failuresShouldBeRethrown() {
+		// given
+		VavrBatchValidator batchValidator = new VavrBatchValidator(validator, executor, 2);
+
+		// when, then
+		assertThatThrownBy(() -> batchValidator.validateAll(List.of(new TestBean("name", 1), null)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static class ConcurrencyRecordingValidator implements Validator {
+
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maximum = new AtomicInteger();
+		private final Validator validator;
+
+		ConcurrencyRecordingValidator(Validator validator) {
+			this.validator = validator;
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+			maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(1);
+				return validator.validate(object, groups);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			} finally {
+				running.decrementAndGet();
+			}
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+			return validator.validateProperty(object, propertyName, groups);
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value,
+																Class<?>... groups) {
+			return validator.validateValue(beanType, propertyName, value, groups);
+		}
+
+		@Override
+		public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+			return validator.getConstraintsForClass(clazz);
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			return validator.unwrap(type);
+		}
+
+		@Override
+		public ExecutableValidator forExecutables() {
+			return validator.forExecutables();
+		}
+	}
+
+	private static class TestBean {
+
+		@NotBlank
+		final String name;
+
+		@Positive
+		final int quantity;
+
+		TestBean(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+}
@@ -0,0 +1,209 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VavrCachingValidatorTest {
+
+	private final AtomicLong nanos = new AtomicLong();
+
+	private Validator validator;
+
+	@Before
+	public void setUp() {
+		validator = ValidatorSupplier.INSTANCE.get();
+	}
+
+	@Test
+	public void elementsOfKnownValidContainersShouldNotBeRevalidated() {
+		// given
+		VavrCachingValidator cachingValidator = new VavrCachingValidator(validator, 100, 1, TimeUnit.MINUTES);
+		Item item = new Item(1);
+		TestBean bean = new TestBean(Vector.of("a", "b"), List.of(item), Tuple.of("c", 1));
+		assertThat(cachingValidator.validate(bean)).isEmpty();
+
+		// when
+		item.quantity = -1;
+		Set<ConstraintViolation<TestBean>> violations = cachingValidator.validate(new TestBean(bean.names, bean.items, bean.pair));
+
+		// then
+		assertThat(violations).isEmpty();
+		assertThat(validator.validate(bean)).hasSize(1);
+		assertThat(cachingValidator.missCount()).isEqualTo(3);
+		assertThat(cachingValidator.hitCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void containersWithElementViolationsShouldNotBeRemembered() {
+		// given
+		VavrCachingValidator cachingValidator = new VavrCachingValidator(validator, 100, 1, TimeUnit.MINUTES);
+		TestBean bean = new TestBean(Vector.of("a", " "), List.of(new Item(-1)), Tuple.of("", 1));
+
+		// when
+		cachingValidator.validate(bean);
+		Set<ConstraintViolation<TestBean>> violations = cachingValidator.validate(bean);
+
+		// then
+		assertThat(violations).hasSize(3);
+		assertThat(cachingValidator.hitCount()).isZero();
+		assertThat(cachingValidator.missCount()).isEqualTo(6);
+	}
+
+	@Test
+	public void propertyConstraintsShouldBeCheckedOnKnownValidContainers() {
+		// given
+		VavrCachingValidator cachingValidator = new VavrCachingValidator(validator, 100, 1, TimeUnit.MINUTES);
+		TestBean bean = new TestBean(Vector.of("a", "b", "c"), List.empty(), Tuple.of("c", 1));
+
+		// when
+		cachingValidator.validate(bean);
+		Set<ConstraintViolation<TestBean>> violations = cachingValidator.validate(bean);
+
+		// then
+		assertThat(violations).hasSize(1);
+		assertThat(violations.iterator().next().getConstraintDescriptor().getAnnotation()).isInstanceOf(Size.class);
+		assertThat(cachingValidator.hitCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void containersShouldBeRememberedPerGroup() {
+		// given
+		VavrCachingValidator cachingValidator = new VavrCachingValidator(validator, 100, 1, TimeUnit.MINUTES);
+		TestBean bean = new TestBean(Vector.of("a"), List.empty(), Tuple.of("c", 1));
+
+		// when
+		cachingValidator.validate(bean);
+		cachingValidator.validate(bean, Strict.class);
+
+		// then
+		assertThat(cachingValidator.hitCount()).isZero();
+	}
+
+	@Test
+	public void containersShouldBeForgottenAfterExpiry() {
+		// given
+		VavrCachingValidator cachingValidator = new VavrCachingValidator(validator, 100, 1000, nanos::get);
+		TestBean bean = new TestBean(Vector.of("a"), List.empty(), Tuple.of("c", 1));
+		cachingValidator.validate(bean);
+
+		// when
+		nanos.addAndGet(1000);
+		cachingValidator.validate(bean);
+
+		// then
+		assertThat(cachingValidator.hitCount()).isZero();
+		assertThat(cachingValidator.evictionCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void leastRecentlyUsedContainersShouldBeForgottenBeyondMaximumSize() {
+		// given
+		VavrCachingValidator cachingValidator = new VavrCachingValidator(validator, 3, 1000, nanos::get);
+		TestBean first = new TestBean(Vector.of("a"), List.empty(), Tuple.of("c", 1));
+		TestBean second = new TestBean(Vector.of("b"), first.items, first.pair);
+		cachingValidator.validate(first);
+
+		// when
+		cachingValidator.validate(second);
+		cachingValidator.validate(first);
+
+		// then
+		assertThat(cachingValidator.evictionCount()).isEqualTo(2);
+		assertThat(cachingValidator.hitCount()).isEqualTo(4);
+	}
+
+	@Test
+	public void containersSharedWithOtherPlacesShouldBeValidatedThere() {
+		// given
+		VavrCachingValidator cachingValidator = new VavrCachingValidator(validator, 100, 1, TimeUnit.MINUTES);
+		List<String> shared = List.of("ab");
+		assertThat(cachingValidator.validate(new SharingBean(shared, Option.none()))).isEmpty();
+
+		// when
+		Set<ConstraintViolation<SharingBean>> violations = cachingValidator.validate(
+				new SharingBean(shared, Option.of(shared)));
+
+		// then
+		assertThat(violations).hasSize(1);
+		assertThat(violations.iterator().next().getConstraintDescriptor().getAnnotation()).isInstanceOf(Size.class);
+	}
+
+	interface Strict {
+	}
+
+	private static class TestBean {
+
+		@Size(max = 2)
+		final Vector<@NotBlank String> names;
+
+		@Valid
+		final List<Item> items;
+
+		final Tuple2<@NotBlank String, @Positive(groups = Strict.class) Integer> pair;
+
+		TestBean(Vector<String> names, List<Item> items, Tuple2<String, Integer> pair) {
+			this.names = names;
+			this.items = items;
+			this.pair = pair;
+		}
+	}
+
+	private static class SharingBean {
+
+		final Seq<@NotBlank String> names;
+
+		final Option<Seq<@Size(max = 1) String>> aliases;
+
+		SharingBean(Seq<String> names, Option<Seq<String>> aliases) {
+			this.names = names;
+			this.aliases = aliases;
+		}
+	}
+
+	private static class Item {
+
+		@Positive
+		int quantity;
+
+		Item(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
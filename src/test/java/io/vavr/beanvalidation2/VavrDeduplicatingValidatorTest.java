@@ -0,0 +1,143 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VavrDeduplicatingValidatorTest {
+
+	private Validator validator;
+	private VavrDeduplicatingValidator deduplicatingValidator;
+
+	@Before
+	public void setUp() {
+		validator = ValidatorSupplier.INSTANCE.get();
+		deduplicatingValidator = new VavrDeduplicatingValidator(validator);
+	}
+
+	@Test
+	public void violationsOfRepeatedElementsShouldBeCopiedToEveryIndex() {
+		// given
+		TestBean bean = new TestBean(Vector.fill(100, "").update(50, "a").update(70, " "),
+				Vector.empty(), Vector.empty());
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = deduplicatingValidator.validate(bean);
+
+		// then
+		assertThat(paths(violations)).isEqualTo(paths(validator.validate(bean)));
+		assertThat(violations).hasSize(99);
+	}
+
+	@Test
+	public void violationsOfRepeatedRowsShouldBeCopiedToEveryCell() {
+		// given
+		Vector<Integer> row = Vector.of(1, null, 2, null);
+		TestBean bean = new TestBean(Vector.empty(), Vector.fill(3, row).append(Vector.of(null, 1)), Vector.empty());
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = deduplicatingValidator.validate(bean);
+
+		// then
+		assertThat(paths(violations)).isEqualTo(paths(validator.validate(bean)));
+		assertThat(violations).hasSize(7);
+		assertThat(paths(violations)).contains("matrix[2].<sequence element>[3].<sequence element>");
+	}
+
+	@Test
+	public void violationsOfRepeatedBeansShouldBeReportedOnceLikeWithoutDeduplication() {
+		// given
+		Item invalid = new Item(-1);
+		TestBean bean = new TestBean(Vector.empty(), Vector.empty(), Vector.of(invalid, new Item(1), invalid));
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = deduplicatingValidator.validate(bean);
+
+		// then
+		assertThat(paths(violations)).isEqualTo(paths(validator.validate(bean)));
+		assertThat(violations).hasSize(1);
+	}
+
+	@Test
+	public void copiedPathsShouldHaveTheNodesOfTheOriginal() {
+		// given
+		TestBean bean = new TestBean(Vector.fill(2, ""), Vector.empty(), Vector.empty());
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = deduplicatingValidator.validate(bean);
+
+		// then
+		ConstraintViolation<TestBean> copy = HashSet.ofAll(violations).find(v -> index(v) == 1).get();
+		Path.Node element = List.ofAll(copy.getPropertyPath()).last();
+		assertThat(element.getName()).isEqualTo("<sequence element>");
+		assertThat(element.as(Path.ContainerElementNode.class).getIndex()).isEqualTo(1);
+		assertThat(element.as(Path.ContainerElementNode.class).getTypeArgumentIndex()).isEqualTo(0);
+		assertThat(copy.getConstraintDescriptor().getAnnotation()).isInstanceOf(NotBlank.class);
+		assertThat(copy.getInvalidValue()).isEqualTo("");
+	}
+
+	private static Set<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+		return HashSet.ofAll(violations).map(v -> v.getPropertyPath().toString()).toJavaSet();
+	}
+
+	private static int index(ConstraintViolation<?> violation) {
+		return List.ofAll(violation.getPropertyPath()).last().getIndex();
+	}
+
+	private static class TestBean {
+
+		final Vector<@NotBlank String> names;
+
+		final Vector<Vector<@NotNull Integer>> matrix;
+
+		final Vector<@Valid Item> items;
+
+		TestBean(Vector<String> names, Vector<Vector<Integer>> matrix, Vector<Item> items) {
+			this.names = names;
+			this.matrix = matrix;
+			this.items = items;
+		}
+	}
+
+	private static class Item {
+
+		@Positive
+		final int quantity;
+
+		Item(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
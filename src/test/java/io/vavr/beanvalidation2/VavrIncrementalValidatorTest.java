@@ -0,0 +1,148 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VavrIncrementalValidatorTest {
+
+	private Validator validator;
+	private VavrIncrementalValidator incrementalValidator;
+
+	@Before
+	public void setUp() {
+		validator = ValidatorSupplier.INSTANCE.get();
+		incrementalValidator = new VavrIncrementalValidator(validator);
+	}
+
+	@Test
+	public void testSeqDeltaMatchesFullValidation() {
+		// given
+		TestBean previous = new TestBean(Vector.fill(1000, "a").update(10, "").update(500, ""), HashMap.empty());
+		Set<ConstraintViolation<TestBean>> previousViolations = validator.validate(previous);
+		TestBean current = new TestBean(previous.names.update(10, "b").update(700, " "), previous.amounts);
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations =
+				incrementalValidator.validateDelta(previous, previousViolations, current, "names");
+
+		// then
+		assertThat(paths(violations)).isEqualTo(paths(validator.validateProperty(current, "names")));
+		assertThat(indices(violations)).containsExactlyInAnyOrder(500, 700);
+		assertThat(HashSet.ofAll(violations).find(v -> index(v) == 500).get())
+				.isSameAs(HashSet.ofAll(previousViolations).find(v -> index(v) == 500).get());
+	}
+
+	@Test
+	public void testSeqDeltaDropsRemovedIndicesAndRevalidatesSize() {
+		// given
+		TestBean previous = new TestBean(Vector.of("a", "b", ""), HashMap.empty());
+		Set<ConstraintViolation<TestBean>> previousViolations = validator.validate(previous);
+		TestBean current = new TestBean(Vector.empty(), HashMap.empty());
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations =
+				incrementalValidator.validateDelta(previous, previousViolations, current, "names");
+
+		// then
+		assertThat(violations).hasSize(1);
+		assertThat(violations.iterator().next().getConstraintDescriptor().getAnnotation()).isInstanceOf(Size.class);
+	}
+
+	@Test
+	public void testMapDeltaMatchesFullValidation() {
+		// given
+		Map<String, Integer> amounts = List.range(0, 1000).toMap(i -> "k" + i, i -> i + 1);
+		TestBean previous = new TestBean(Vector.of("a"), amounts.put("k1", -1).put("K2", 2));
+		Set<ConstraintViolation<TestBean>> previousViolations = validator.validate(previous);
+		TestBean current = new TestBean(previous.names, previous.amounts.put("k1", 1).put("k3", -3).put("K4", 4));
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations =
+				incrementalValidator.validateDelta(previous, previousViolations, current, "amounts");
+
+		// then
+		assertThat(paths(violations)).isEqualTo(paths(validator.validateProperty(current, "amounts")));
+		assertThat(HashSet.ofAll(violations).map(v -> leaf(v).getKey())).containsExactlyInAnyOrder("K2", "k3", "K4");
+	}
+
+	@Test
+	public void testOtherPropertiesAreNotRevalidated() {
+		// given
+		TestBean previous = new TestBean(Vector.of(""), HashMap.of("k", -1));
+		Set<ConstraintViolation<TestBean>> previousViolations = validator.validate(previous);
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations =
+				incrementalValidator.validateDelta(previous, previousViolations, previous, "amounts");
+
+		// then
+		assertThat(HashSet.ofAll(violations).map(v -> List.ofAll(v.getPropertyPath()).head().getName()))
+				.containsExactly("amounts");
+		assertThat(violations).hasSize(1).isSubsetOf(previousViolations);
+	}
+
+	private static Path.Node leaf(ConstraintViolation<?> violation) {
+		return List.ofAll(violation.getPropertyPath()).last();
+	}
+
+	private static int index(ConstraintViolation<?> violation) {
+		return leaf(violation).getIndex();
+	}
+
+	private static <T> io.vavr.collection.Set<Integer> indices(Set<ConstraintViolation<T>> violations) {
+		return HashSet.ofAll(violations).map(VavrIncrementalValidatorTest::index);
+	}
+
+	private static <T> io.vavr.collection.Set<String> paths(Set<ConstraintViolation<T>> violations) {
+		return HashSet.ofAll(violations).map(v -> List.ofAll(v.getPropertyPath()).head().getName() + "/"
+				+ leaf(v).getName() + "/" + leaf(v).getIndex() + "/" + leaf(v).getKey() + "/" + v.getMessage());
+	}
+
+	private static final class TestBean {
+		@Size(min = 1)
+		private final Seq<@NotBlank String> names;
+
+		private final Map<@Pattern(regexp = "^[a-z0-9]+$") String, @Positive Integer> amounts;
+
+		TestBean(Seq<String> names, Map<String, Integer> amounts) {
+			this.names = names;
+			this.amounts = amounts;
+		}
+	}
+}
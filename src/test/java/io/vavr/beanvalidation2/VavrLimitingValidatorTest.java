@@ -0,0 +1,124 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.beanvalidation2.constraints.MaxValidatedElements;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VavrLimitingValidatorTest {
+
+	private VavrLimitingValidator limitingValidator;
+
+	@Before
+	public void setUp() {
+		limitingValidator = new VavrLimitingValidator(ValidatorSupplier.INSTANCE.get());
+	}
+
+	@Test
+	public void propertiesWithoutTheAnnotationShouldBeValidatedCompletely() {
+		// given
+		TestBean bean = new TestBean(Vector.fill(5, (Integer) null), Vector.of(1, 2, 3, 4, 5, null), List.empty());
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = limitingValidator.validate(bean);
+
+		// then
+		assertThat(paths(violations)).containsExactlyInAnyOrder(
+				"limited MaxValidatedElements",
+				"limited[0].<sequence element> NotNull",
+				"limited[1].<sequence element> NotNull",
+				"others[5].<sequence element> NotNull");
+	}
+
+	@Test
+	public void containersAlsoFoundWithoutTheAnnotationShouldBeValidatedCompletely() {
+		// given
+		Vector<Integer> shared = Vector.fill(3, (Integer) null);
+		TestBean bean = new TestBean(shared, shared, List.empty());
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = limitingValidator.validate(bean);
+
+		// then
+		assertThat(violations).hasSize(6);
+		assertThat(paths(violations)).noneMatch(path -> path.endsWith("MaxValidatedElements"));
+	}
+
+	@Test
+	public void containersWithinTheValidatedElementsShouldBeLimited() {
+		// given
+		Group first = new Group(Vector.fill(5, (Integer) null));
+		Group second = new Group(Vector.fill(5, (Integer) null));
+		TestBean bean = new TestBean(Vector.empty(), Vector.empty(), List.of(first, second));
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = limitingValidator.validate(bean);
+
+		// then
+		assertThat(paths(violations)).containsExactlyInAnyOrder(
+				"groups MaxValidatedElements",
+				"groups[0].limited MaxValidatedElements",
+				"groups[0].limited[0].<sequence element> NotNull",
+				"groups[0].limited[1].<sequence element> NotNull");
+	}
+
+	private static List<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+		return List.ofAll(violations).map(v -> v.getPropertyPath() + " "
+				+ v.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName());
+	}
+
+	private static class TestBean {
+
+		@MaxValidatedElements(2)
+		final Seq<@NotNull Integer> limited;
+
+		final Seq<@NotNull Integer> others;
+
+		@MaxValidatedElements(1)
+		final List<@Valid Group> groups;
+
+		TestBean(Seq<Integer> limited, Seq<Integer> others, List<Group> groups) {
+			this.limited = limited;
+			this.others = others;
+			this.groups = groups;
+		}
+	}
+
+	private static class Group {
+
+		@MaxValidatedElements(2)
+		final Seq<@NotNull Integer> limited;
+
+		Group(Seq<Integer> limited) {
+			this.limited = limited;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Vector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VavrParallelValidatorTest {
+
+	private ForkJoinPool pool;
+	private Validator validator;
+	private VavrParallelValidator parallelValidator;
+
+	@Before
+	public void setUp() {
+		pool = new ForkJoinPool(4);
+		validator = ValidatorSupplier.INSTANCE.get();
+		parallelValidator = new VavrParallelValidator(validator, pool, 1000);
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void largeContainersShouldBeValidatedLikeSequentially() {
+		// given
+		Vector<Item> items = Vector.range(0, 20_000).map(i -> new Item(i % 3000 == 7 ? -i : i + 1));
+		Map<Integer, String> labels = List.range(0, 5000).toMap(i -> i, i -> i % 1000 == 3 ? " " : "label");
+		TestBean bean = new TestBean(null, items, labels);
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = parallelValidator.validate(bean);
+
+		// then
+		Set<ConstraintViolation<TestBean>> expected = validator.validate(bean);
+		assertThat(paths(violations)).isEqualTo(paths(expected));
+		assertThat(violations).hasSize(expected.size()).hasSize(1 + 1 + 7 + 5);
+	}
+
+	@Test
+	public void smallContainersShouldBeValidatedSequentially() {
+		// given
+		TestBean bean = new TestBean("name", Vector.of(new Item(-1)), List.of(1).toMap(i -> i, i -> ""));
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = parallelValidator.validate(bean);
+
+		// then
+		assertThat(paths(violations)).isEqualTo(paths(validator.validate(bean)));
+		assertThat(violations).hasSize(2);
+	}
+
+	@Test
+	public void chunksShouldValidateOnlyTheirPropertyIfConfigured() {
+		// given
+		Validator scoping = VavrParallelValidator.configure(Validation.byDefaultProvider().configure())
+				.buildValidatorFactory().getValidator();
+		VavrParallelValidator parallelValidator = new VavrParallelValidator(scoping, pool, 1000);
+		Vector<Item> items = Vector.range(0, 20_000).map(i -> new Item(i % 3000 == 7 ? -i : i + 1));
+		CountingBean bean = new CountingBean(items);
+
+		// when
+		Set<ConstraintViolation<CountingBean>> violations = parallelValidator.validate(bean);
+
+		// then
+		assertThat(paths(violations)).isEqualTo(paths(validator.validate(bean)));
+		assertThat(violations).hasSize(1 + 7);
+		assertThat(bean.nameReads.get()).isEqualTo(1 + 1 + 1);
+	}
+
+	private static Set<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+		return HashSet.ofAll(violations).map(v -> v.getPropertyPath() + " " + v.getMessageTemplate()).toJavaSet();
+	}
+
+	private static class TestBean {
+
+		@NotNull
+		final String name;
+
+		@Size(max = 10_000)
+		final Vector<@Valid Item> items;
+
+		final Map<Integer, @NotBlank String> labels;
+
+		TestBean(String name, Vector<Item> items, Map<Integer, String> labels) {
+			this.name = name;
+			this.items = items;
+			this.labels = labels;
+		}
+	}
+
+	public static class CountingBean {
+
+		final AtomicInteger nameReads = new AtomicInteger();
+
+		@Valid
+		final Vector<Item> items;
+
+		CountingBean(Vector<Item> items) {
+			this.items = items;
+		}
+
+		@NotNull
+		public String getName() {
+			nameReads.incrementAndGet();
+			return null;
+		}
+	}
+
+	private static class Item {
+
+		@Positive
+		final int quantity;
+
+		Item(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Set;
+import io.vavr.collection.TreeSet;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.validation.Configuration;
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VavrValidationTest {
+
+	@Test
+	public void testValidatorsAreTheOnesOfTheConstraintMappingFile() throws Exception {
+		// given
+		Map<String, List<String>> mapped = LinkedHashMap.empty();
+		try (InputStream xml = getClass().getResourceAsStream("/META-INF/constraints-vavr.xml")) {
+			NodeList definitions = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(xml)
+					.getElementsByTagName("constraint-definition");
+			for (int i = 0; i < definitions.getLength(); i++) {
+				Element definition = (Element) definitions.item(i);
+				NodeList values = definition.getElementsByTagName("value");
+				List<String> validators = List.empty();
+				for (int j = 0; j < values.getLength(); j++) {
+					validators = validators.append(values.item(j).getTextContent().trim());
+				}
+				mapped = mapped.put(definition.getAttribute("annotation"), validators);
+			}
+		}
+
+		// when
+		Map<String, List<String>> registered = VavrValidation.VALIDATORS
+				.map((constraint, validators) -> io.vavr.Tuple.of(constraint.getName(), validators.map(Class::getName)));
+
+		// then
+		assertThat(registered).isEqualTo(mapped);
+	}
+
+	@Test
+	public void testConfiguredValidatorReportsLikeTheMappingFile() {
+		// given
+		Validator configured = VavrValidation.configure(Validation.byDefaultProvider().configure()
+				.ignoreXmlConfiguration())
+				.buildValidatorFactory()
+				.getValidator();
+
+		// when
+		Set<String> violations = messages(configured.validate(new TestBean()));
+
+		// then
+		assertThat(violations).hasSize(5);
+		assertThat(violations).isEqualTo(messages(ValidatorSupplier.INSTANCE.get().validate(new TestBean())));
+	}
+
+	@Test
+	public void testOtherProvidersAreGivenTheMappingFile() {
+		// given
+		Configuration<?> hibernate = Validation.byDefaultProvider().configure().ignoreXmlConfiguration();
+		Configuration<?> other = (Configuration<?>) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { Configuration.class }, (proxy, method, args) -> {
+					try {
+						Object result = method.invoke(hibernate, args);
+						return result == hibernate ? proxy : result;
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+
+		// when
+		Validator validator = VavrValidation.configure(other).buildValidatorFactory().getValidator();
+
+		// then
+		assertThat(messages(validator.validate(new TestBean()))).hasSize(5);
+	}
+
+	@Test
+	public void testWarmUpValidatesTheVavrPropertiesOfTheBeansAndTheirCascades() {
+		// given
+		Validator validator = ValidatorSupplier.INSTANCE.get();
+		java.util.List<String> validated = new java.util.ArrayList<>();
+		Validator recording = (Validator) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { Validator.class }, (proxy, method, args) -> {
+					if (method.getName().equals("validateValue")) {
+						validated.add(((Class<?>) args[0]).getSimpleName() + "." + args[1]);
+					}
+					try {
+						return method.invoke(validator, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+
+		// when
+		Duration duration = VavrValidation.warmUp(recording, 2, Order.class);
+
+		// then
+		assertThat(duration).isGreaterThanOrEqualTo(Duration.ZERO);
+		assertThat(validated).containsExactlyInAnyOrder(
+				"Order.items", "Order.pair", "Order.notes", "Item.name",
+				"Order.items", "Order.pair", "Order.notes", "Item.name");
+	}
+
+	@Test
+	public void testWarmUpOfPropertiesWithoutSyntheticValue() {
+		// when
+		Duration duration = VavrValidation.warmUp(ValidatorSupplier.INSTANCE.get(), TestBean.class);
+
+		// then
+		assertThat(duration).isGreaterThanOrEqualTo(Duration.ZERO);
+		assertThat(messages(ValidatorSupplier.INSTANCE.get().validate(new TestBean()))).hasSize(5);
+	}
+
+	@Test
+	public void testWarmUpRejectsNoRepetitions() {
+		assertThatThrownBy(() -> VavrValidation.warmUp(ValidatorSupplier.INSTANCE.get(), 0, Order.class))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static Set<String> messages(java.util.Set<? extends ConstraintViolation<?>> violations) {
+		return HashSet.ofAll(violations).map(v -> v.getPropertyPath() + " " + v.getMessage());
+	}
+
+	private static final class TestBean {
+		@Size(max = 1)
+		private final Vector<String> names = Vector.of("a", "b");
+
+		@NotEmpty
+		private final Option<String> nickname = Option.none();
+
+		@Pattern(regexp = "[a-z]+")
+		private final CharSeq slug = CharSeq.of("A");
+
+		@NotBlank
+		private final CharSeq title = CharSeq.of(" ");
+
+		@Size(min = 2)
+		private final CharSeq code = CharSeq.of("x");
+	}
+
+	private static final class Order {
+		@NotNull
+		private String id;
+
+		@Size(max = 3)
+		private Seq<@Valid Item> items;
+
+		private Tuple2<@NotBlank String, @Max(5) Integer> pair;
+
+		private Map<String, @NotBlank String> notes;
+
+		@NotEmpty
+		private TreeSet<String> tags;
+
+		@Valid
+		private Item main;
+	}
+
+	private static final class Item {
+		@NotEmpty
+		private CharSeq name;
+
+		@Valid
+		private Order order;
+	}
+}
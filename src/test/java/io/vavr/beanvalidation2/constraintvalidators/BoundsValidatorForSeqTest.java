@@ -0,0 +1,170 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.beanvalidation2.ValidatorSupplier;
+import io.vavr.beanvalidation2.constraints.AllDecimalMax;
+import io.vavr.beanvalidation2.constraints.AllDecimalMin;
+import io.vavr.beanvalidation2.constraints.AllInRange;
+import io.vavr.beanvalidation2.constraints.AllMax;
+import io.vavr.beanvalidation2.constraints.AllMin;
+import io.vavr.beanvalidation2.constraints.AllPositive;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Set;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Vector;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ElementKind;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundsValidatorForSeqTest {
+
+    private Validator validator;
+    private TestBean bean = null;
+
+    @Before
+    public void setUp() {
+        this.validator = ValidatorSupplier.INSTANCE.get();
+        this.bean = new TestBean();
+    }
+
+    private Set<ConstraintViolation<TestBean>> validate() {
+        return HashSet.ofAll(validator.validate(bean));
+    }
+
+    private static List<Path.Node> nodes(ConstraintViolation<?> violation) {
+        return List.ofAll(violation.getPropertyPath());
+    }
+
+    @Test
+    public void testDefaultConstruction_shouldValidate() {
+        assertThat(validate()).isEmpty();
+    }
+
+    @Test
+    public void testEmptyAndNull_shouldValidate() {
+        bean.ids = Vector.empty();
+        bean.scores = null;
+        bean.counts = List.of(1L, null, 3L);
+        assertThat(validate()).isEmpty();
+    }
+
+    @Test
+    public void testIds_withElementsOutOfRange_shouldReportEachWithItsIndex() {
+        bean.ids = Vector.range(-2, 100_000).append(100_001);
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertThat(violations).hasSize(3);
+        assertThat(violations.map(v -> nodes(v).head().getName())).containsExactly("ids");
+        assertThat(violations.map(v -> nodes(v).last().getName())).containsExactly("<sequence element>");
+        assertThat(violations.map(v -> nodes(v).last().getIndex())).containsExactlyInAnyOrder(0, 1, 100_002);
+        assertThat(violations.map(ConstraintViolation::getMessage))
+                .containsExactlyInAnyOrder("must be greater than or equal to 0",
+                        "must be less than or equal to 100000");
+    }
+
+    @Test
+    public void testIds_shouldHaveTheSamePathAsAnElementConstraint() {
+        bean.ids = Vector.of(1, 100_001);
+        bean.limits = Vector.of(1, 11);
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertThat(violations.map(v -> v.getPropertyPath().toString()))
+                .containsExactlyInAnyOrder("ids[1].<sequence element>", "limits[1].<sequence element>");
+        assertThat(violations.map(v -> nodes(v).last().getKind())).containsExactly(ElementKind.CONTAINER_ELEMENT);
+    }
+
+    @Test
+    public void testScores_withDoublesAndNaN_shouldNotValidate() {
+        bean.scores = Array.of(0.5, 0.0, -0.0, Double.NaN, Double.MIN_VALUE, Double.POSITIVE_INFINITY);
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertThat(violations.map(v -> nodes(v).last().getIndex())).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(violations.map(ConstraintViolation::getMessage)).containsExactly("must be greater than 0");
+    }
+
+    @Test
+    public void testAmounts_withBigNumbers_shouldValidateByValue() {
+        bean.amounts = Stream.of(new BigDecimal("-0.001"), new BigDecimal("100.00"), BigInteger.valueOf(101), (byte) 1);
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertThat(violations.map(v -> nodes(v).last().getIndex())).containsExactlyInAnyOrder(0, 2);
+        assertThat(violations.map(ConstraintViolation::getMessage)).containsExactly("must be between 0 and 100");
+    }
+
+    @Test
+    public void testCounts_withLongBeyondDoublePrecision_shouldValidateExactly() {
+        bean.counts = List.of(Long.MAX_VALUE, (1L << 53) + 1, 0L);
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertThat(violations.map(v -> nodes(v).last().getIndex())).containsExactly(2);
+    }
+
+    @Test
+    public void testRates_withDecimalBounds_shouldReportEachWithItsIndex() {
+        bean.rates = Vector.of(new BigDecimal("0.5"), new BigDecimal("1.50"), new BigDecimal("1.51"));
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertThat(violations.map(v -> nodes(v).last().getIndex())).containsExactlyInAnyOrder(0, 2);
+        assertThat(violations.map(ConstraintViolation::getMessage))
+                .containsExactlyInAnyOrder("must be greater than 0.5", "must be less than or equal to 1.5");
+    }
+
+    private static class TestBean {
+
+        @AllMin(0)
+        @AllMax(100_000)
+        private Seq<Integer> ids = Vector.of(0, 42, 100_000);
+
+        @AllPositive
+        private Array<Double> scores = Array.of(0.5, 1.0);
+
+        @AllInRange(max = 100)
+        private Seq<Number> amounts = Stream.empty();
+
+        @AllMin(1)
+        private Seq<Long> counts = List.empty();
+
+        private Seq<@Max(10) Integer> limits = Vector.empty();
+
+        @AllDecimalMin(value = "0.5", inclusive = false)
+        @AllDecimalMax("1.5")
+        private Seq<BigDecimal> rates = Vector.empty();
+    }
+
+}
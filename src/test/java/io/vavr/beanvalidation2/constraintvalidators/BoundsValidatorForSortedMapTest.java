@@ -0,0 +1,86 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.beanvalidation2.ValidatorSupplier;
+import io.vavr.beanvalidation2.constraints.AllMax;
+import io.vavr.beanvalidation2.constraints.AllMin;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Set;
+import io.vavr.collection.SortedMap;
+import io.vavr.collection.TreeMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundsValidatorForSortedMapTest {
+
+    private Validator validator;
+    private TestBean bean = null;
+
+    @Before
+    public void setUp() {
+        this.validator = ValidatorSupplier.INSTANCE.get();
+        this.bean = new TestBean();
+    }
+
+    private Set<ConstraintViolation<TestBean>> validate() {
+        return HashSet.ofAll(validator.validate(bean));
+    }
+
+    @Test
+    public void testDefaultConstruction_shouldValidate() {
+        assertThat(validate()).isEmpty();
+    }
+
+    @Test
+    public void testKeysOutOfBounds_shouldReportEachByKey() {
+        bean.namesById = TreeMap.of(-1, "a", 5, "b", 11, "c", 12, "d");
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertThat(violations).hasSize(3);
+        List<Path.Node> nodes = List.ofAll(violations.head().getPropertyPath());
+        assertThat(nodes.head().getName()).isEqualTo("namesById");
+        assertThat(nodes.last().getName()).isEqualTo("<map key>");
+        assertThat(violations.map(v -> List.ofAll(v.getPropertyPath()).last().getKey())).containsExactlyInAnyOrder(-1, 11, 12);
+    }
+
+    @Test
+    public void testKeysInReverseOrder_shouldValidate() {
+        bean.namesById = TreeMap.of(Comparator.reverseOrder(), 0, "a", 10, "b");
+        assertThat(validate()).isEmpty();
+    }
+
+    private static class TestBean {
+
+        @AllMin(0)
+        @AllMax(10)
+        private SortedMap<Integer, String> namesById = TreeMap.of(0, "a", 10, "b");
+    }
+
+}
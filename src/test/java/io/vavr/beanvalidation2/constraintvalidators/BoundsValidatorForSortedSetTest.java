@@ -0,0 +1,228 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.beanvalidation2.ValidatorSupplier;
+import io.vavr.beanvalidation2.constraints.AllDecimalMax;
+import io.vavr.beanvalidation2.constraints.AllDecimalMin;
+import io.vavr.beanvalidation2.constraints.AllMax;
+import io.vavr.beanvalidation2.constraints.AllMin;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Set;
+import io.vavr.collection.SortedSet;
+import io.vavr.collection.TreeSet;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.UnexpectedTypeException;
+import javax.validation.constraints.Min;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundsValidatorForSortedSetTest {
+
+    private Validator validator;
+    private TestBean bean = null;
+
+    @Before
+    public void setUp() {
+        this.validator = ValidatorSupplier.INSTANCE.get();
+        this.bean = new TestBean();
+    }
+
+    private Set<ConstraintViolation<TestBean>> validate() {
+        return HashSet.ofAll(validator.validate(bean));
+    }
+
+    private static void assertSingleViolationOf(Set<ConstraintViolation<TestBean>> violations, Class<?> constraint) {
+        assertThat(violations).hasSize(1);
+        assertThat(violations.head().getConstraintDescriptor().getAnnotation()).isInstanceOf(constraint);
+    }
+
+    private static List<Path.Node> nodes(ConstraintViolation<?> violation) {
+        return List.ofAll(violation.getPropertyPath());
+    }
+
+    @Test
+    public void testDefaultConstruction_shouldValidate() {
+        assertThat(validate()).isEmpty();
+    }
+
+    @Test
+    public void testEmptyAndNull_shouldValidate() {
+        bean.ids = TreeSet.empty();
+        bean.scores = null;
+        assertThat(validate()).isEmpty();
+    }
+
+    @Test
+    public void testIds_withElementsAboveMax_shouldReportAnIterableElementWithoutPosition() {
+        bean.ids = TreeSet.rangeClosed(95, 102);
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertSingleViolationOf(violations, AllMax.class);
+        assertThat(nodes(violations.head()).head().getName()).isEqualTo("ids");
+        assertThat(nodes(violations.head()).last().getName()).isEqualTo("<iterable element>");
+        assertThat(nodes(violations.head()).last().isInIterable()).isTrue();
+        assertThat(nodes(violations.head()).last().getIndex()).isNull();
+        assertThat(nodes(violations.head()).last().getKey()).isNull();
+        assertThat(violations.head().getMessage()).isEqualTo("must be less than or equal to 100");
+    }
+
+    @Test
+    public void testIds_withElementBelowMin_shouldNotValidate() {
+        bean.ids = TreeSet.of(-1, 0, 1);
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertThat(violations).hasSize(1);
+        assertThat(violations.head().getConstraintDescriptor().getAnnotation()).isInstanceOf(AllMin.class);
+        assertThat(nodes(violations.head()).last().getIndex()).isNull();
+    }
+
+    @Test
+    public void testIds_inReverseOrder_shouldCheckBothEnds() {
+        bean.ids = TreeSet.ofAll(Comparator.reverseOrder(), List.of(0, 50, 101));
+        assertThat(validate()).hasSize(1);
+
+        bean.ids = TreeSet.ofAll(Comparator.reverseOrder(), List.of(-1, 50, 100));
+        assertThat(validate()).hasSize(1);
+
+        bean.ids = TreeSet.ofAll(Comparator.reverseOrder(), List.of(0, 50, 100));
+        assertThat(validate()).isEmpty();
+    }
+
+    @Test
+    public void testIds_withNonNumericOrder_shouldCheckEveryElement() {
+        // sorted by last digit, so neither 0 nor 9 is an endpoint of the numeric range
+        bean.ids = TreeSet.ofAll(Comparator.comparing((Integer i) -> i % 10).thenComparing(i -> i), List.of(10, 1000, 99, 9));
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertSingleViolationOf(violations, AllMax.class);
+    }
+
+    @Test
+    public void testScores_withNaN_shouldNotValidate() {
+        bean.scores = TreeSet.of(0.5, Double.NaN);
+
+        Set<ConstraintViolation<TestBean>> violations = validate();
+
+        assertThat(violations.<Class<?>> map(v -> v.getConstraintDescriptor().getAnnotation().annotationType()))
+                .containsExactlyInAnyOrder(AllDecimalMin.class, AllDecimalMax.class);
+    }
+
+    @Test
+    public void testScores_exclusiveBounds_shouldNotValidate() {
+        bean.scores = TreeSet.of(0.0, 0.5);
+        assertSingleViolationOf(validate(), AllDecimalMin.class);
+    }
+
+    @Test
+    public void testAmounts_withBigDecimals_shouldValidateByValue() {
+        bean.amounts = TreeSet.of(new BigDecimal("0.00"), new BigDecimal("99.990"));
+        assertThat(validate()).isEmpty();
+
+        bean.amounts = TreeSet.of(new BigDecimal("0.00"), new BigDecimal("100.00"));
+        assertSingleViolationOf(validate(), AllDecimalMax.class);
+    }
+
+    @Test
+    public void testCharSequences_withNumbers_shouldValidate() {
+        bean.codes = TreeSet.of("10", "9");
+        assertThat(validate()).isEmpty();
+
+        bean.codes = TreeSet.of("10", "x");
+        Set<ConstraintViolation<TestBean>> violations = validate();
+        assertSingleViolationOf(violations, AllMax.class);
+        assertThat(nodes(violations.head()).last().isInIterable()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIds_inNumericOrder_shouldReadOnlyTheFirstAndLastElement() {
+        AtomicInteger traversals = new AtomicInteger();
+        TreeSet<Integer> ids = TreeSet.rangeClosed(0, 100);
+        SortedBean counted = new SortedBean((SortedSet<Integer>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { SortedSet.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("iterator") || method.getName().equals("forEach")) {
+                        traversals.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(ids, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+
+        assertThat(validator.validate(counted)).isEmpty();
+        assertThat(traversals.get()).isZero();
+    }
+
+    @Test(expected = UnexpectedTypeException.class)
+    public void testStandardMin_shouldNotApplyToSortedSets() {
+        validator.validate(new StandardMinBean());
+    }
+
+    private static class TestBean {
+
+        @AllMin(0)
+        @AllMax(100)
+        private TreeSet<Integer> ids = TreeSet.of(0, 42, 100);
+
+        @AllDecimalMin(value = "0", inclusive = false)
+        @AllDecimalMax("1")
+        private TreeSet<Double> scores = TreeSet.of(0.5, 1.0);
+
+        @AllDecimalMax(value = "99.99")
+        private TreeSet<BigDecimal> amounts = TreeSet.empty();
+
+        @AllMax(10)
+        private TreeSet<String> codes = TreeSet.empty();
+    }
+
+    private static class SortedBean {
+
+        @AllMin(0)
+        @AllMax(100)
+        private final SortedSet<Integer> ids;
+
+        SortedBean(SortedSet<Integer> ids) {
+            this.ids = ids;
+        }
+    }
+
+    private static class StandardMinBean {
+
+        @Min(0)
+        private TreeSet<Integer> ids = TreeSet.of(1);
+    }
+
+}
@@ -0,0 +1,152 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.beanvalidation2.ValidatorSupplier;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CharSeqValidatorsTest {
+
+    private static final List<String> ADDRESSES = List.of(
+            "", "a@b", "first.last@example.com", "\"quoted@at\"@example.com", "\"a\\\\b\"@example.com",
+            "no-at-sign", "a@b@example.com", "a@example.com.", "a@.example.com", "a..b@example.com",
+            "a@[192.168.0.1]", "a@[IPv6:2001:db8::1]", "a@[IPv6:nope]", "jörg@bücher.de",
+            List.fill(65, "x").mkString() + "@example.com", "a@" + List.fill(64, "x").mkString() + ".com",
+            "a@" + List.fill(4, List.fill(63, "x").mkString()).mkString(".") + ".com", "a b@example.com",
+            // within the limits as characters, but not once converted to punycode
+            "a@" + List.fill(60, "ü").mkString() + ".de", "a@" + List.fill(40, "äöü").mkString(".") + ".de",
+            "a@" + List.fill(20, "äöü").mkString(".") + ".de"
+    );
+
+    private Validator validator;
+    private TestBean bean = null;
+
+    @Before
+    public void setUp() {
+        this.validator = ValidatorSupplier.INSTANCE.get();
+        this.bean = new TestBean();
+    }
+
+    private Set<Class<?>> violatedConstraints() {
+        return HashSet.ofAll(validator.validate(bean))
+                .map(violation -> violation.getConstraintDescriptor().getAnnotation().annotationType());
+    }
+
+    @Test
+    public void testDefaultConstruction_shouldValidate() {
+        assertThat(violatedConstraints()).isEmpty();
+    }
+
+    @Test
+    public void testSize_shouldCountCharacters() {
+        bean.code = CharSeq.of("abcd");
+        assertThat(violatedConstraints()).containsExactly(Size.class);
+
+        bean.code = CharSeq.of("a");
+        assertThat(violatedConstraints()).containsExactly(Size.class);
+    }
+
+    @Test
+    public void testEmptyAndBlank_shouldNotValidate() {
+        bean.name = CharSeq.of(" \t\n");
+        assertThat(violatedConstraints()).containsExactly(NotBlank.class);
+
+        bean.name = CharSeq.empty();
+        bean.text = CharSeq.empty();
+        assertThat(violatedConstraints()).containsExactlyInAnyOrder(NotBlank.class, NotEmpty.class);
+
+        bean.name = null;
+        bean.text = null;
+        assertThat(violatedConstraints()).containsExactlyInAnyOrder(NotBlank.class, NotEmpty.class);
+    }
+
+    @Test
+    public void testPattern_shouldMatchTheWholeValueWithFlags() {
+        bean.code = CharSeq.of("AB");
+        assertThat(violatedConstraints()).isEmpty();
+
+        bean.code = CharSeq.of("a1");
+        assertThat(violatedConstraints()).containsExactly(Pattern.class);
+    }
+
+    @Test
+    public void testEmail_shouldAcceptTheSameAddressesAsForStrings() {
+        for (String address : ADDRESSES) {
+            bean.email = CharSeq.of(address);
+            boolean valid = !violatedConstraints().contains(Email.class);
+
+            boolean validAsString = validator.validateValue(StringBean.class, "email", address).isEmpty();
+
+            assertThat(valid).as(address).isEqualTo(validAsString);
+        }
+        assertThat(ADDRESSES.count(address -> validator.validateValue(StringBean.class, "email", address).isEmpty()))
+                .isBetween(5, ADDRESSES.size() - 5);
+    }
+
+    @Test
+    public void testEmail_withRegexp_shouldMatchItAsWell() {
+        bean.company = CharSeq.of("a@EXAMPLE.com");
+        assertThat(violatedConstraints()).isEmpty();
+
+        bean.company = CharSeq.of("a@example.org");
+        assertThat(violatedConstraints()).containsExactly(Email.class);
+    }
+
+    private static class TestBean {
+
+        @Size(min = 2, max = 3)
+        @Pattern(regexp = "[a-z]+", flags = Pattern.Flag.CASE_INSENSITIVE)
+        private CharSeq code = CharSeq.of("ab");
+
+        @NotBlank
+        private CharSeq name = CharSeq.of(" x ");
+
+        @NotEmpty
+        private CharSeq text = CharSeq.of(" ");
+
+        @Email
+        private CharSeq email = CharSeq.empty();
+
+        @Email(regexp = ".*@example\\.com", flags = Pattern.Flag.CASE_INSENSITIVE)
+        private CharSeq company = null;
+    }
+
+    private static class StringBean {
+
+        @Email
+        private String email;
+    }
+
+}
@@ -0,0 +1,164 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import io.vavr.Tuple5;
+import io.vavr.Tuple8;
+import io.vavr.beanvalidation2.ValidatorSupplier;
+import io.vavr.beanvalidation2.constraints.TupleElements;
+import io.vavr.beanvalidation2.constraints.TupleNotBlank;
+import io.vavr.beanvalidation2.constraints.TupleNotNull;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ElementsValidatorForTupleTest {
+
+    private Validator validator;
+    private TestBean bean = null;
+
+    @Before
+    public void setUp() {
+        this.validator = ValidatorSupplier.INSTANCE.get();
+        this.bean = new TestBean();
+    }
+
+    private <T> Set<String> violations(T bean) {
+        return HashSet.ofAll(validator.validate(bean)).map(v -> v.getPropertyPath() + " " + v.getMessage());
+    }
+
+    @Test
+    public void testDefaultConstruction_shouldValidate() {
+        assertThat(violations(bean)).isEmpty();
+    }
+
+    @Test
+    public void testNullTuples_shouldValidate() {
+        bean.key = null;
+        bean.names = null;
+        bean.entry = null;
+        bean.wide = null;
+        assertThat(violations(bean)).isEmpty();
+    }
+
+    @Test
+    public void testNotNull_shouldReportLikeElementConstraints() {
+        bean.key = Tuple.of("a", null, "c", null, 5);
+        ElementConstraintsBean elementConstraints = new ElementConstraintsBean();
+        elementConstraints.key = bean.key;
+
+        Set<String> violations = violations(bean);
+
+        assertThat(violations).containsExactlyInAnyOrder(
+                "key<T2>[2].<element> must not be null",
+                "key<T4>[4].<element> must not be null");
+        assertThat(violations).isEqualTo(violations(elementConstraints));
+    }
+
+    @Test
+    public void testNotNull_shouldCheckAllPositionsOfTheGreatestArity() {
+        bean.wide = Tuple.of(1, 2, 3, 4, 5, 6, 7, null);
+        assertThat(violations(bean)).containsExactly("wide<T8>[8].<element> must not be null");
+    }
+
+    @Test
+    public void testNotBlank_shouldReportBlankAndNullCharSequences() {
+        bean.names = Tuple.of(" ", CharSeq.of("\t"), null);
+        assertThat(violations(bean)).containsExactlyInAnyOrder(
+                "names<T1>[1].<element> must not be blank",
+                "names<T2>[2].<element> must not be blank",
+                "names<T3>[3].<element> must not be blank");
+    }
+
+    @Test
+    public void testNotBlank_shouldOnlyCheckOtherTypesForNull() {
+        bean.names = Tuple.of("a", CharSeq.of(" b "), 0);
+        assertThat(violations(bean)).isEmpty();
+    }
+
+    @Test
+    public void testElements_shouldCheckTheGivenPositionsWithTheirMessages() {
+        bean.entry = Tuple.of(null, " ");
+        assertThat(violations(bean)).containsExactlyInAnyOrder(
+                "entry<T1>[1].<element> must not be null",
+                "entry<T2>[2].<element> must not be blank");
+    }
+
+    @Test
+    public void testElements_shouldUseTheGivenMessage() {
+        CustomMessageBean custom = new CustomMessageBean();
+        assertThat(violations(custom)).containsExactlyInAnyOrder(
+                "entry<T1>[1].<element> incomplete entry",
+                "entry<T2>[2].<element> incomplete entry");
+    }
+
+    @Test
+    public void testElements_withPositionOutOfRange_shouldFail() {
+        assertThatThrownBy(() -> validator.validate(new OutOfRangeBean()))
+                .isInstanceOf(ValidationException.class)
+                .hasStackTraceContaining("position 3 is not between 1 and 2");
+    }
+
+    private static class TestBean {
+
+        @TupleNotNull
+        private Tuple5<String, String, String, String, Integer> key = Tuple.of("a", "b", "c", "d", 5);
+
+        @TupleNotBlank
+        private Tuple3<String, CharSeq, Object> names = Tuple.of("a", CharSeq.of("b"), "c");
+
+        @TupleElements(notNull = 1, notBlank = 2)
+        private Tuple2<Integer, String> entry = Tuple.of(1, "b");
+
+        @TupleNotNull
+        private Tuple8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> wide =
+                Tuple.of(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    private static class ElementConstraintsBean {
+
+        private Tuple5<@NotNull String, @NotNull String, @NotNull String, @NotNull String, @NotNull Integer> key;
+    }
+
+    private static class CustomMessageBean {
+
+        @TupleElements(notNull = 1, notBlank = 2, message = "incomplete entry")
+        private Tuple2<Integer, String> entry = Tuple.of(null, "");
+    }
+
+    private static class OutOfRangeBean {
+
+        @TupleElements(notNull = 3)
+        private Tuple2<Integer, String> entry = Tuple.of(1, "b");
+    }
+}
@@ -0,0 +1,137 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.beanvalidation2.VavrLimitingValidator;
+import io.vavr.beanvalidation2.constraints.MaxValidatedElements;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Vector;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaxValidatedElementsValidatorTest {
+
+    private Validator validator;
+    private VavrLimitingValidator limitingValidator;
+
+    @Before
+    public void setUp() {
+        this.validator = Validation.buildDefaultValidatorFactory().getValidator();
+        this.limitingValidator = new VavrLimitingValidator(validator);
+    }
+
+    private List<String> messages(TestBean bean, Class<?> constraint) {
+        Collection<ConstraintViolation<TestBean>> violations = limitingValidator.validate(bean);
+        return List.ofAll(violations)
+                .filter(v -> constraint.isInstance(v.getConstraintDescriptor().getAnnotation()))
+                .map(ConstraintViolation::getMessage);
+    }
+
+    @Test
+    public void testWithinLimit_shouldValidate() {
+        TestBean bean = new TestBean(Stream.of(1, 2, 3), Vector.of(1, 2), HashMap.of("a", 1));
+        assertThat(limitingValidator.validate(bean)).isEmpty();
+    }
+
+    @Test
+    public void testInfiniteStream_shouldValidateTheFirstElementsAndReportTheOthers() {
+        TestBean bean = new TestBean(Stream.continually((Integer) null), Vector.empty(), HashMap.empty());
+
+        assertThat(messages(bean, NotNull.class)).hasSize(3);
+        assertThat(messages(bean, MaxValidatedElements.class))
+                .containsExactly("only the first 3 elements were validated, the others were not");
+    }
+
+    @Test
+    public void testLargeSeq_shouldReportTheNumberOfUnvalidatedElements() {
+        TestBean bean = new TestBean(Stream.empty(), Vector.fill(10, (Integer) null), HashMap.empty());
+
+        assertThat(messages(bean, NotNull.class)).hasSize(3);
+        assertThat(messages(bean, MaxValidatedElements.class))
+                .containsExactly("only the first 3 elements were validated, 7 were not");
+    }
+
+    @Test
+    public void testLargeMap_shouldReportTheNumberOfUnvalidatedElements() {
+        Map<String, Integer> values = HashMap.of("a", null, "b", null, "c", null, "d", null, "e", null);
+        TestBean bean = new TestBean(Stream.empty(), Vector.empty(), values);
+
+        assertThat(messages(bean, NotNull.class)).hasSize(3);
+        assertThat(messages(bean, MaxValidatedElements.class))
+                .containsExactly("only the first 3 elements were validated, 2 were not");
+    }
+
+    @Test
+    public void testInfiniteStream_shouldReportTheGivenTextForTheOthers() {
+        UnknownSizeBean bean = new UnknownSizeBean(Stream.from(1));
+
+        assertThat(List.ofAll(limitingValidator.validate(bean)).map(ConstraintViolation::getMessage))
+                .containsExactly("only the first 3 elements were validated, more were not");
+    }
+
+    @Test
+    public void testPlainValidator_shouldValidateAllElementsAndReportNothing() {
+        TestBean bean = new TestBean(Stream.empty(), Vector.fill(10, (Integer) null), HashMap.empty());
+
+        assertThat(List.ofAll(validator.validate(bean)))
+                .hasSize(10)
+                .allMatch(v -> v.getConstraintDescriptor().getAnnotation() instanceof NotNull);
+    }
+
+    private static class UnknownSizeBean {
+
+        @MaxValidatedElements(value = 3, unknownUnvalidated = "more")
+        private final Stream<@Positive Integer> stream;
+
+        UnknownSizeBean(Stream<Integer> stream) {
+            this.stream = stream;
+        }
+    }
+
+    private static class TestBean {
+
+        @MaxValidatedElements(3)
+        private final Stream<@NotNull Integer> stream;
+
+        @MaxValidatedElements(3)
+        private final Vector<@NotNull Integer> vector;
+
+        @MaxValidatedElements(3)
+        private final Map<String, @NotNull Integer> map;
+
+        TestBean(Stream<Integer> stream, Vector<Integer> vector, Map<String, Integer> map) {
+            this.stream = stream;
+            this.vector = vector;
+            this.map = map;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.constraintvalidators;
+
+import io.vavr.beanvalidation2.ValidatorSupplier;
+import io.vavr.beanvalidation2.constraints.FutureNotEmpty;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotEmpty;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.vavr.beanvalidation2.constraintvalidators.ValidatorTestUtil.assertSingleViolation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotEmptyValidatorForFutureTest {
+
+    private Validator validator;
+    private TestBean bean = null;
+
+    @Before
+    public void setUp() {
+        this.validator = ValidatorSupplier.INSTANCE.get();
+        this.bean = new TestBean();
+    }
+
+    private void validateAndAssertNoViolations() {
+        Collection<ConstraintViolation<TestBean>> violations = validator.validate(bean);
+        assertThat(violations).isEmpty();
+    }
+
+    private ConstraintViolation<TestBean> validateAndAssertSingleOffendingProperty(String property, Class<?> constraint) {
+        Collection<ConstraintViolation<TestBean>> violations = validator.validate(bean);
+        assertSingleViolation(violations, property, constraint);
+        return violations.iterator().next();
+    }
+
+    @Test
+    public void testDefaultConstruction_shouldValidate() {
+        validateAndAssertNoViolations();
+    }
+
+    @Test
+    public void testNotEmptyFuture_butIsFailure_shouldNotValidate() {
+        bean.notEmptyFuture = Future.failed(new IllegalArgumentException());
+        validateAndAssertSingleOffendingProperty("notEmptyFuture", NotEmpty.class);
+    }
+
+    @Test
+    public void testNotEmptyFuture_butIsNull_shouldNotValidate() {
+        bean.notEmptyFuture = null;
+        validateAndAssertSingleOffendingProperty("notEmptyFuture", NotEmpty.class);
+    }
+
+    @Test(timeout = 5000)
+    public void testNotEmptyFuture_butIsPending_shouldNotValidateWithoutBlocking() {
+        bean.notEmptyFuture = Promise.<Integer> make().future();
+        validateAndAssertSingleOffendingProperty("notEmptyFuture", NotEmpty.class);
+    }
+
+    @Test(timeout = 5000)
+    public void testPendingValid_butIsPending_shouldValidateWithoutBlocking() {
+        bean.pendingValid = Promise.<Integer> make().future();
+        validateAndAssertNoViolations();
+    }
+
+    @Test
+    public void testPendingValid_butIsFailure_shouldNotValidate() {
+        bean.pendingValid = Future.failed(new IllegalArgumentException());
+        validateAndAssertSingleOffendingProperty("pendingValid", FutureNotEmpty.class);
+    }
+
+    @Test(timeout = 5000)
+    public void testPendingInvalid_butIsPending_shouldNotValidateWithoutBlocking() {
+        bean.pendingInvalid = Promise.<Integer> make().future();
+        ConstraintViolation<TestBean> violation =
+                validateAndAssertSingleOffendingProperty("pendingInvalid", FutureNotEmpty.class);
+        assertThat(violation.getMessage()).isEqualTo("must not be empty");
+    }
+
+    @Test(timeout = 5000)
+    public void testPendingAwait_andCompletesInTime_shouldValidate() {
+        Promise<Integer> promise = Promise.make();
+        bean.pendingAwait = promise.future();
+        new Thread(() -> promise.success(1)).start();
+        validateAndAssertNoViolations();
+    }
+
+    @Test(timeout = 5000)
+    public void testPendingAwait_butTimesOut_shouldReportTimeoutAndLeaveFuturePending() {
+        bean.pendingAwait = Promise.<Integer> make().future();
+        ConstraintViolation<TestBean> violation =
+                validateAndAssertSingleOffendingProperty("pendingAwait", FutureNotEmpty.class);
+        assertThat(violation.getMessage()).isEqualTo("did not complete within 200 MILLISECONDS");
+        assertThat(bean.pendingAwait.isCompleted()).isFalse();
+    }
+
+    @Test(timeout = 5000)
+    public void testPendingAwait_validatedRepeatedly_shouldNotRegisterCallbacks() {
+        Future<Integer> pending = Promise.<Integer> make().future();
+        AtomicInteger callbacks = new AtomicInteger();
+        @SuppressWarnings("unchecked")
+        Future<Integer> counting = (Future<Integer>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Future.class }, (proxy, method, args) -> {
+                    if (method.getName().startsWith("on")) {
+                        callbacks.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(pending, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        bean.pendingAwait = counting;
+        for (int i = 0; i < 3; i++) {
+            validateAndAssertSingleOffendingProperty("pendingAwait", FutureNotEmpty.class);
+        }
+        assertThat(callbacks).hasValue(0);
+    }
+
+    private static class TestBean {
+
+        @NotEmpty
+        private Future<Integer> notEmptyFuture = Future.successful(1);
+
+        @FutureNotEmpty(pending = FutureNotEmpty.Pending.VALID)
+        private Future<Integer> pendingValid = Future.successful(1);
+
+        @FutureNotEmpty(pending = FutureNotEmpty.Pending.INVALID)
+        private Future<Integer> pendingInvalid = Future.successful(1);
+
+        @FutureNotEmpty(pending = FutureNotEmpty.Pending.AWAIT, timeout = 200)
+        private Future<Integer> pendingAwait = Future.successful(1);
+    }
+
+}
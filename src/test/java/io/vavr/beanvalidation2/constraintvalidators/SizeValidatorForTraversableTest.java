@@ -26,6 +26,7 @@ import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Set;
+import io.vavr.collection.Stream;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -135,6 +136,30 @@ public class SizeValidatorForTraversableTest {
         validateAndAssertSingleOffendingProperty(bean, "exactlyOneMap");
     }
 
+    @Test
+    public void testLazy_butIsInfinite_shouldNotValidate() {
+        bean.setLazy(Stream.from(1));
+        validateAndAssertSingleOffendingProperty(bean, "lazy");
+    }
+
+    @Test
+    public void testLazy_butIsEmpty_shouldNotValidate() {
+        bean.setLazy(Stream.empty());
+        validateAndAssertSingleOffendingProperty(bean, "lazy");
+    }
+
+    @Test
+    public void testLazy_withMaxEntries_shouldValidate() {
+        bean.setLazy(Stream.iterate(1, i -> i + 1).take(3));
+        validateAndAssertNoViolations();
+    }
+
+    @Test
+    public void testLazy_withOneEntryTooMany_shouldNotValidate() {
+        bean.setLazy(Stream.iterate(1, i -> i + 1).take(4));
+        validateAndAssertSingleOffendingProperty(bean, "lazy");
+    }
+
     private static class TestBean {
 
         @Size(min = 1)
@@ -149,6 +174,9 @@ public class SizeValidatorForTraversableTest {
         @Size(min = 1, max = 1)
         private Map<Integer, String> exactlyOneMap = null;
 
+        @Size(min = 1, max = 3)
+        private Stream<Integer> lazy = null;
+
         public List<Integer> getAtLeastOne() {
             return atLeastOne;
         }
@@ -181,6 +209,14 @@ public class SizeValidatorForTraversableTest {
             this.exactlyOneMap = exactlyOneMap;
         }
 
+        public Stream<Integer> getLazy() {
+            return lazy;
+        }
+
+        public void setLazy(Stream<Integer> lazy) {
+            this.lazy = lazy;
+        }
+
     }
 
 }
\ No newline at end of file
@@ -30,7 +30,9 @@ import org.junit.Test;
 import javax.validation.ConstraintViolation;
 import javax.validation.ElementKind;
 import javax.validation.Path;
+import javax.validation.Validation;
 import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
 
@@ -138,6 +140,74 @@ public class EitherTest {
 		assertThat(nodes.last().getName()).isEqualTo("<left element>");
 	}
 
+	@Test
+	public void testAbsentSideIsExtractedByDefault() {
+		// given
+		NotNullBean subject = new NotNullBean(Either.right("success"));
+
+		// when
+		Set<ConstraintViolation<NotNullBean>> violations =
+				HashSet.ofAll(validator.validate(subject));
+
+		// then
+		assertThat(violations).hasSize(1);
+		assertThat(List.ofAll(violations.head().getPropertyPath()).last().getName()).isEqualTo("<left element>");
+	}
+
+	@Test
+	public void testAbsentSideIsNotExtractedWhenPresentOnly() {
+		// given
+		Validator presentOnly = presentOnlyValidator();
+
+		// when
+		Set<ConstraintViolation<NotNullBean>> leftViolations =
+				HashSet.ofAll(presentOnly.validate(new NotNullBean(Either.left(42))));
+		Set<ConstraintViolation<NotNullBean>> rightViolations =
+				HashSet.ofAll(presentOnly.validate(new NotNullBean(Either.right("success"))));
+
+		// then
+		assertThat(leftViolations).hasSize(0);
+		assertThat(rightViolations).hasSize(0);
+	}
+
+	@Test
+	public void testPresentSideIsReportedAsBeforeWhenPresentOnly() {
+		// given
+		Validator presentOnly = presentOnlyValidator();
+		TestBean left = new TestBean();
+		left.fail(-67);
+		TestBean right = new TestBean();
+		right.ok("");
+
+		// when
+		Set<ConstraintViolation<TestBean>> leftViolations = HashSet.ofAll(presentOnly.validate(left));
+		Set<ConstraintViolation<TestBean>> rightViolations = HashSet.ofAll(presentOnly.validate(right));
+
+		// then
+		assertThat(leftViolations.map(v -> v.getPropertyPath().toString()))
+				.isEqualTo(HashSet.ofAll(validator.validate(left)).map(v -> v.getPropertyPath().toString()))
+				.hasSize(1);
+		assertThat(rightViolations.map(v -> v.getPropertyPath().toString()))
+				.isEqualTo(HashSet.ofAll(validator.validate(right)).map(v -> v.getPropertyPath().toString()))
+				.hasSize(1);
+	}
+
+	private static Validator presentOnlyValidator() {
+		return Validation.byDefaultProvider().configure()
+				.addValueExtractor(EitherLeftExtractor.presentOnly())
+				.addValueExtractor(EitherRightExtractor.presentOnly())
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static final class NotNullBean {
+		private final Either<@NotNull Integer, @NotNull String> result;
+
+		NotNullBean(Either<Integer, String> result) {
+			this.result = result;
+		}
+	}
+
 	private static final class TestBean {
 		private Either<@Positive Integer, @Pattern(regexp = WORD) String> result =
 				Either.right("success");
@@ -0,0 +1,99 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.Tuple2;
+import io.vavr.beanvalidation2.VavrAsyncValidator;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Set;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FutureValueExtractorTest {
+
+	private Validator validator;
+
+	@Before
+	public void setUp() {
+		this.validator = VavrAsyncValidator.configure(Validation.byDefaultProvider().configure())
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	@Test
+	public void testCompletedValueIsValidated() {
+		// given
+		TestBean subject = new TestBean(Future.successful(""));
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = HashSet.ofAll(validator.validate(subject));
+
+		// then
+		assertThat(violations).hasSize(1);
+		assertThat(List.ofAll(violations.head().getPropertyPath()).last().getName()).isEqualTo("<iterable element>");
+	}
+
+	@Test
+	public void testFailedFutureHasNoValueToValidate() {
+		// given
+		TestBean subject = new TestBean(Future.failed(new IllegalStateException()));
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = HashSet.ofAll(validator.validate(subject));
+
+		// then
+		assertThat(violations).hasSize(0);
+	}
+
+	@Test(timeout = 5000)
+	public void testPendingFutureIsSkippedAndTrackedOnce() {
+		// given
+		Future<String> pending = Promise.<String> make().future();
+		TestBean subject = new TestBean(pending);
+
+		// when
+		Tuple2<java.util.Set<ConstraintViolation<TestBean>>, List<Future<?>>> result =
+				FutureValueExtractor.trackPending(() -> validator.validate(subject));
+
+		// then
+		assertThat(result._1).isEmpty();
+		assertThat(result._2).containsExactly(pending);
+		assertThat(pending.isCompleted()).isFalse();
+	}
+
+	private static final class TestBean {
+		private final Future<@NotBlank @Size(max = 10) String> name;
+
+		TestBean(Future<String> name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple2;
+import io.vavr.beanvalidation2.ValidatorSupplier;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyValueExtractorTest {
+
+	private Validator validator;
+
+	@Before
+	public void setUp() {
+		this.validator = ValidatorSupplier.INSTANCE.get();
+	}
+
+	@Test
+	public void testEvaluatedValueIsValidated() {
+		// given
+		Lazy<String> name = Lazy.of(() -> "");
+		name.get();
+		TestBean subject = new TestBean(name);
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = HashSet.ofAll(validator.validate(subject));
+
+		// then
+		assertThat(violations).hasSize(1);
+		assertThat(List.ofAll(violations.head().getPropertyPath()).last().getName()).isEqualTo("<iterable element>");
+	}
+
+	@Test
+	public void testUnevaluatedValueIsEvaluatedByDefault() {
+		// given
+		Lazy<String> name = Lazy.of(() -> "");
+		TestBean subject = new TestBean(name);
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = HashSet.ofAll(validator.validate(subject));
+
+		// then
+		assertThat(violations).hasSize(1);
+		assertThat(name.isEvaluated()).isTrue();
+	}
+
+	@Test
+	public void testUnevaluatedValueIsSkippedAndTrackedOnce() {
+		// given
+		AtomicInteger evaluations = new AtomicInteger();
+		Lazy<String> name = Lazy.of(() -> {
+			evaluations.incrementAndGet();
+			return "";
+		});
+		TestBean subject = new TestBean(name);
+
+		// when
+		Tuple2<java.util.Set<ConstraintViolation<TestBean>>, List<Lazy<?>>> result =
+				LazyValueExtractor.trackUnevaluated(() -> validator.validate(subject));
+
+		// then
+		assertThat(result._1).isEmpty();
+		assertThat(result._2).containsExactly(name);
+		assertThat(evaluations.get()).isZero();
+
+		// and once accessed
+		name.get();
+		assertThat(validator.validate(subject)).hasSize(1);
+		assertThat(evaluations.get()).isOne();
+	}
+
+	@Test
+	public void testNonForcingExtractorSkipsUnevaluated() {
+		// given
+		Validator nonForcing = Validation.byDefaultProvider().configure()
+				.addValueExtractor(LazyValueExtractor.nonForcing())
+				.buildValidatorFactory()
+				.getValidator();
+		Lazy<String> name = Lazy.of(() -> "");
+		TestBean subject = new TestBean(name);
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = HashSet.ofAll(nonForcing.validate(subject));
+
+		// then
+		assertThat(violations).isEmpty();
+		assertThat(name.isEvaluated()).isFalse();
+	}
+
+	private static final class TestBean {
+		private final Lazy<@NotBlank @Size(max = 10) String> name;
+
+		TestBean(Lazy<String> name) {
+			this.name = name;
+		}
+	}
+}
@@ -19,22 +19,31 @@
  */
 package io.vavr.beanvalidation2.valueextraction;
 
+import io.vavr.Tuple;
 import io.vavr.beanvalidation2.ValidatorSupplier;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashMultimap;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.LinkedHashMap;
 import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import io.vavr.collection.Multimap;
+import io.vavr.collection.TreeMap;
 import org.junit.Before;
 import org.junit.Test;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ElementKind;
 import javax.validation.Path;
+import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -137,6 +146,140 @@ public class MapValueExtractorTest {
         );
     }
 
+    @Test
+    public void everyValueShouldBeExtractedWithItsKey() {
+        List<Map<Integer, Integer>> maps = List.of(
+                HashMap.ofEntries(Iterator.range(0, 10_000).map(i -> Tuple.of(i, -i))),
+                TreeMap.ofEntries(Iterator.range(0, 10_000).map(i -> Tuple.of(i, -i))),
+                LinkedHashMap.ofEntries(Iterator.range(0, 10_000).map(i -> Tuple.of(i, -i)))
+        );
+        for (Map<Integer, Integer> map : maps) {
+            RecordingValueReceiver receiver = new RecordingValueReceiver();
+
+            new MapValueExtractor().extractValues(map, receiver);
+
+            assertThat(receiver.keys()).hasSize(10_000).doesNotHaveDuplicates();
+            assertThat(receiver.keys().zip(receiver.values())).allMatch(e -> e._2.equals(-(Integer) e._1));
+        }
+    }
+
+    @Test
+    public void everyValueOfMultimapShouldBeExtractedWithItsKey() {
+        Multimap<Integer, Integer> multimap = HashMultimap.withSeq().ofEntries(
+                Iterator.range(0, 10_000).map(i -> Tuple.of(i % 100, i)));
+        RecordingValueReceiver receiver = new RecordingValueReceiver();
+
+        new MultimapValueExtractor().extractValues(multimap, receiver);
+
+        assertThat(receiver.values()).hasSize(10_000).doesNotHaveDuplicates();
+        assertThat(receiver.keys().zip(receiver.values())).allMatch(e -> e._1.equals((Integer) e._2 % 100));
+    }
+
+    @Test
+    public void onlyKeysInScopeShouldBeExtracted() {
+        Map<Integer, Integer> map = HashMap.ofEntries(Iterator.range(0, 100).map(i -> Tuple.of(i, -i)));
+        Multimap<Integer, Integer> multimap = HashMultimap.withSeq().ofEntries(map);
+        RecordingValueReceiver byPredicate = new RecordingValueReceiver();
+        RecordingValueReceiver byKeys = new RecordingValueReceiver();
+        RecordingValueReceiver multimapKeys = new RecordingValueReceiver();
+
+        ExtractionScope.restrictKeys(map, key -> (Integer) key < 3,
+                () -> { new MapValueExtractor().extractValues(map, byPredicate); return null; });
+        ExtractionScope.restrictKeys(map, new java.util.HashSet<>(Arrays.asList(7, 8, 1000)),
+                () -> { new MapKeyExtractor().extractValues(map, byKeys); return null; });
+        ExtractionScope.restrictKeys(multimap, new java.util.HashSet<>(Arrays.asList(7, 8, 1000)),
+                () -> { new MultimapValueExtractor().extractValues(multimap, multimapKeys); return null; });
+        new MapValueExtractor().extractValues(map, new RecordingValueReceiver());
+
+        assertThat(byPredicate.keys()).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(byPredicate.values()).containsExactlyInAnyOrder(0, -1, -2);
+        assertThat(byKeys.values()).containsExactlyInAnyOrder(7, 8);
+        assertThat(multimapKeys.values()).containsExactlyInAnyOrder(-7, -8);
+        assertThat(ExtractionScope.keyFilter(map)).isNull();
+    }
+
+    @Test
+    public void limitedContainersShouldStopAtTheLimit() {
+        Map<Integer, Integer> map = HashMap.ofEntries(Iterator.range(0, 100).map(i -> Tuple.of(i, -i)));
+        Multimap<Integer, Integer> multimap = HashMultimap.withSeq().ofEntries(
+                Iterator.range(0, 100).map(i -> Tuple.of(i % 2, i)));
+        RecordingValueReceiver keys = new RecordingValueReceiver();
+        RecordingValueReceiver values = new RecordingValueReceiver();
+        RecordingValueReceiver multimapKeys = new RecordingValueReceiver();
+        RecordingValueReceiver multimapValues = new RecordingValueReceiver();
+        RecordingValueReceiver none = new RecordingValueReceiver();
+
+        java.util.Map<Object, Integer> limits = new IdentityHashMap<>();
+        limits.put(map, 7);
+        limits.put(multimap, 7);
+        ExtractionScope.limit(limits, () -> {
+            new MapKeyExtractor().extractValues(map, keys);
+            new MapValueExtractor().extractValues(map, values);
+            new MultimapKeyExtractor().extractValues(multimap, multimapKeys);
+            new MultimapValueExtractor().extractValues(multimap, multimapValues);
+            return null;
+        });
+        ExtractionScope.limit(Collections.singletonMap(map, 0),
+                () -> { new MapValueExtractor().extractValues(map, none); return null; });
+
+        assertThat(keys.values()).hasSize(7).doesNotHaveDuplicates();
+        assertThat(values.keys()).isEqualTo(keys.values());
+        assertThat(multimapKeys.values()).containsExactlyInAnyOrder(0, 1);
+        assertThat(multimapValues.values()).hasSize(7).doesNotHaveDuplicates();
+        assertThat(none.values()).isEmpty();
+    }
+
+    @Test
+    public void sampledEntriesShouldBeExtractedWithTheirKey() {
+        Map<Integer, Integer> map = HashMap.ofEntries(Iterator.range(0, 1000).map(i -> Tuple.of(i, -i)));
+        Multimap<Integer, Integer> multimap = HashMultimap.withSeq().ofEntries(
+                Iterator.range(0, 1000).map(i -> Tuple.of(i % 10, i)));
+        ElementSampling sampling = ElementSampling.count(20, 1);
+        RecordingValueReceiver keys = new RecordingValueReceiver();
+        RecordingValueReceiver values = new RecordingValueReceiver();
+        RecordingValueReceiver multimapKeys = new RecordingValueReceiver();
+        RecordingValueReceiver multimapValues = new RecordingValueReceiver();
+
+        MapKeyExtractor.sampling(sampling).extractValues(map, keys);
+        MapValueExtractor.sampling(sampling).extractValues(map, values);
+        MultimapKeyExtractor.sampling(sampling).extractValues(multimap, multimapKeys);
+        MultimapValueExtractor.sampling(sampling).extractValues(multimap, multimapValues);
+
+        assertThat(keys.values()).hasSize(20).doesNotHaveDuplicates().isEqualTo(values.keys());
+        assertThat(values.keys().zip(values.values())).allMatch(e -> e._1.equals(-(Integer) e._2));
+        assertThat(multimapKeys.values()).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(multimapValues.values()).hasSize(20).doesNotHaveDuplicates();
+        assertThat(multimapValues.keys().zip(multimapValues.values())).allMatch(e -> e._1.equals((Integer) e._2 % 10));
+        assertThat(sampling.sampledCount()).isEqualTo(70);
+        assertThat(sampling.skippedCount()).isEqualTo(3 * 980);
+    }
+
+    @Test
+    public void extractionShouldStopAfterTheGivenNumberOfViolations() {
+        FailFastElements failFast = FailFastElements.after(1);
+        javax.validation.Configuration<?> configuration = Validation.byDefaultProvider().configure();
+        Validator failFastValidator = configuration
+                .messageInterpolator(failFast.countingViolations(configuration.getDefaultMessageInterpolator()))
+                .addValueExtractor(MapKeyExtractor.failFast(failFast))
+                .addValueExtractor(MapValueExtractor.failFast(failFast))
+                .addValueExtractor(MultimapKeyExtractor.failFast(failFast))
+                .addValueExtractor(MultimapValueExtractor.failFast(failFast))
+                .buildValidatorFactory()
+                .getValidator();
+        TestBean bean = new TestBean();
+        for (int i = 0; i < 100; i++) {
+            bean.put("bad" + i, "");
+            bean.add("bad" + i, "");
+            bean.add("bad" + i, " ");
+        }
+
+        Set<ConstraintViolation<TestBean>> violations = failFastValidator.validate(bean);
+
+        assertThat(violations).extracting(violation -> violation.getPropertyPath().iterator().next().getName())
+                .containsExactlyInAnyOrder("entries", "entries", "multientries", "multientries");
+        assertThat(failFast.stoppedCount()).isEqualTo(4);
+    }
+
     @Test
     public void defaultConstructionShouldValidateForJava() {
         validateAndAssertNoViolations(new JavaTestBean());
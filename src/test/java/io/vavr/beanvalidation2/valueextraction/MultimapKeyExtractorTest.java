@@ -0,0 +1,83 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.Tuple;
+import io.vavr.beanvalidation2.ValidatorSupplier;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Multimap;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.Pattern;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultimapKeyExtractorTest {
+
+	private static final String SINGLE_CHAR = "^[a-z]$";
+	private Validator validator;
+
+	@Before
+	public void setUp() {
+		this.validator = ValidatorSupplier.INSTANCE.get();
+	}
+
+	@Test
+	public void eachKeyShouldBeExtractedOnce() {
+		// given
+		Multimap<String, Integer> multimap = HashMultimap.withSeq().of("a", 1, "a", 2, "a", 3, "b", 4);
+		RecordingValueReceiver receiver = new RecordingValueReceiver();
+
+		// when
+		new MultimapKeyExtractor().extractValues(multimap, receiver);
+
+		// then
+		assertThat(receiver.keys()).containsExactlyInAnyOrder("a", "b");
+		assertThat(receiver.values()).containsExactlyInAnyOrder("a", "b");
+		assertThat(receiver.nodeNames()).containsOnly("<map key>");
+	}
+
+	@Test
+	public void invalidKeyWithManyValuesShouldBeReportedOnce() {
+		// given
+		TestBean subject = new TestBean(HashMultimap.withSeq().ofEntries(
+				Iterator.range(0, 10_000).map(i -> Tuple.of("bad", i))));
+
+		// when
+		Set<ConstraintViolation<TestBean>> violations = validator.validate(subject);
+
+		// then
+		assertThat(violations).hasSize(1);
+		assertThat(violations.iterator().next().getInvalidValue()).isEqualTo("bad");
+	}
+
+	private static final class TestBean {
+		private final Multimap<@Pattern(regexp = SINGLE_CHAR) String, Integer> tags;
+
+		TestBean(Multimap<String, Integer> tags) {
+			this.tags = tags;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.collection.Vector;
+
+import javax.validation.valueextraction.ValueExtractor;
+
+/**
+ * Records everything a {@link ValueExtractor} passes to its receiver, in order.
+ */
+final class RecordingValueReceiver implements ValueExtractor.ValueReceiver {
+
+	private Vector<String> nodeNames = Vector.empty();
+	private Vector<Object> indices = Vector.empty();
+	private Vector<Object> keys = Vector.empty();
+	private Vector<Object> values = Vector.empty();
+
+	@Override
+	public void value(String nodeName, Object object) {
+		record(nodeName, object);
+	}
+
+	@Override
+	public void iterableValue(String nodeName, Object object) {
+		record(nodeName, object);
+	}
+
+	@Override
+	public void indexedValue(String nodeName, int i, Object object) {
+		indices = indices.append(i);
+		record(nodeName, object);
+	}
+
+	@Override
+	public void keyedValue(String nodeName, Object key, Object object) {
+		keys = keys.append(key);
+		record(nodeName, object);
+	}
+
+	private void record(String nodeName, Object object) {
+		nodeNames = nodeNames.append(nodeName);
+		values = values.append(object);
+	}
+
+	Vector<String> nodeNames() {
+		return nodeNames;
+	}
+
+	Vector<Object> indices() {
+		return indices;
+	}
+
+	Vector<Object> keys() {
+		return keys;
+	}
+
+	Vector<Object> values() {
+		return values;
+	}
+}
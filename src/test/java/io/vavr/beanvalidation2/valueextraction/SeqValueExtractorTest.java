@@ -20,19 +20,28 @@
 package io.vavr.beanvalidation2.valueextraction;
 
 import io.vavr.beanvalidation2.ValidatorSupplier;
+import io.vavr.collection.Array;
 import io.vavr.collection.List;
+import io.vavr.collection.Queue;
 import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Vector;
 import org.junit.Before;
 import org.junit.Test;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Path;
+import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.constraints.NotBlank;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -99,6 +108,172 @@ public class SeqValueExtractorTest {
         validateAndAssertSingleViolation(bean, 2, "list");
     }
 
+    @Test
+    public void everyElementShouldBeExtractedInOrderWithItsIndex() {
+        Seq<Integer> expected = List.range(0, 1000).map(i -> -i);
+        List<Seq<Integer>> seqs = List.of(
+                expected,
+                Stream.ofAll(expected),
+                Array.ofAll(expected),
+                Vector.ofAll(expected),
+                Queue.ofAll(expected.take(500)).appendAll(expected.drop(500))
+        );
+
+        for (Seq<Integer> seq : seqs) {
+            RecordingValueReceiver receiver = new RecordingValueReceiver();
+            new SeqValueExtractor().extractValues(seq, receiver);
+
+            assertThat(receiver.values()).as(seq.stringPrefix()).containsExactlyElementsOf(expected);
+            assertThat(receiver.indices()).as(seq.stringPrefix()).containsExactlyElementsOf(List.range(0, 1000));
+            assertThat(receiver.nodeNames().distinct()).containsExactly("<sequence element>");
+        }
+    }
+
+    @Test
+    public void onlyIndicesInScopeShouldBeExtracted() {
+        BitSet indices = new BitSet();
+        indices.set(3);
+        indices.set(998);
+        indices.set(5000);
+
+        for (Seq<Integer> seq : List.of(List.range(0, 1000), Vector.range(0, 1000))) {
+            RecordingValueReceiver byPredicate = new RecordingValueReceiver();
+            RecordingValueReceiver byIndices = new RecordingValueReceiver();
+
+            ExtractionScope.restrictIndices(seq, i -> i % 250 == 0,
+                    () -> { new SeqValueExtractor().extractValues(seq, byPredicate); return null; });
+            ExtractionScope.restrictIndices(seq, indices,
+                    () -> { new SeqValueExtractor().extractValues(seq, byIndices); return null; });
+
+            assertThat(byPredicate.indices()).as(seq.stringPrefix()).containsExactly(0, 250, 500, 750);
+            assertThat(byIndices.indices()).as(seq.stringPrefix()).containsExactly(3, 998);
+            assertThat(byIndices.values()).as(seq.stringPrefix()).containsExactly(3, 998);
+        }
+    }
+
+    @Test
+    public void repeatedInstancesShouldBeExtractedOnceWhenSkippingDuplicates() {
+        String a = new String("a");
+        String b = new String("b");
+        Seq<String> seq = List.of(a, b, a, null, b, a, null);
+        RecordingValueReceiver receiver = new RecordingValueReceiver();
+
+        SeqDuplicates duplicates = SeqValueExtractor.skipDuplicates(
+                () -> { new SeqValueExtractor().extractValues(seq, receiver); return null; })._2;
+
+        assertThat(receiver.indices()).containsExactly(0, 1, 3);
+        assertThat(duplicates.of(seq, 0)).containsExactly(2, 5);
+        assertThat(duplicates.of(seq, 1)).containsExactly(4);
+        assertThat(duplicates.of(seq, 3)).containsExactly(6);
+        assertThat(duplicates.of(List.of(a, a), 0)).isEmpty();
+    }
+
+    @Test
+    public void limitedSequencesShouldStopAtTheLimitOfInfiniteStreams() {
+        Stream<Integer> naturals = Stream.from(0);
+        Integer same = 1000;
+        Stream<Integer> repeated = Stream.continually(same);
+
+        for (Seq<Integer> seq : List.of(naturals, Vector.range(0, 1000), List.range(0, 1000), Array.range(0, 1000))) {
+            RecordingValueReceiver receiver = new RecordingValueReceiver();
+            ExtractionScope.limit(Collections.singletonMap(seq, 5),
+                    () -> { new SeqValueExtractor().extractValues(seq, receiver); return null; });
+            assertThat(receiver.indices()).as(seq.stringPrefix()).containsExactly(0, 1, 2, 3, 4);
+        }
+        RecordingValueReceiver limited = new RecordingValueReceiver();
+        SeqDuplicates duplicates = SeqValueExtractor.skipDuplicates(() -> ExtractionScope.limit(
+                Collections.singletonMap(repeated, 50),
+                () -> { new SeqValueExtractor().extractValues(repeated, limited); return null; }))._2;
+
+        assertThat(limited.indices()).hasSize(50);
+        assertThat(duplicates.isEmpty()).isTrue();
+        assertThat(ExtractionScope.limitOf(repeated)).isEqualTo(-1);
+    }
+
+    @Test
+    public void sampledElementsShouldBeExtractedWithTheirIndex() {
+        ElementSampling sampling = ElementSampling.fraction(0.1, 42);
+        RecordingValueReceiver fromVector = new RecordingValueReceiver();
+        RecordingValueReceiver fromList = new RecordingValueReceiver();
+
+        SeqValueExtractor.sampling(sampling).extractValues(Vector.range(0, 10_000), fromVector);
+        SeqValueExtractor.sampling(sampling).extractValues(List.range(0, 10_000), fromList);
+
+        assertThat(fromVector.indices()).isEqualTo(fromList.indices()).isEqualTo(fromVector.values());
+        assertThat(fromVector.indices().size()).isBetween(850, 1150);
+        assertThat(sampling.sampledCount()).isEqualTo(2 * fromVector.indices().size());
+        assertThat(sampling.sampledCount() + sampling.skippedCount()).isEqualTo(20_000);
+    }
+
+    @Test
+    public void aFixedCountOfElementsShouldBeSampledTheSameWayEachTime() {
+        ElementSampling sampling = ElementSampling.count(100, 7);
+        RecordingValueReceiver first = new RecordingValueReceiver();
+        RecordingValueReceiver second = new RecordingValueReceiver();
+        RecordingValueReceiver all = new RecordingValueReceiver();
+
+        SeqValueExtractor.sampling(sampling).extractValues(List.range(0, 10_000), first);
+        SeqValueExtractor.sampling(sampling).extractValues(Array.range(0, 10_000), second);
+        SeqValueExtractor.sampling(sampling).extractValues(Queue.range(0, 50), all);
+
+        assertThat(first.indices()).hasSize(100).doesNotHaveDuplicates().isEqualTo(second.indices());
+        assertThat(first.indices()).isEqualTo(first.indices().sortBy(i -> (Integer) i));
+        assertThat(all.indices()).isEqualTo(List.range(0, 50));
+        assertThat(sampling.sampledCount()).isEqualTo(250);
+        assertThat(sampling.skippedCount()).isEqualTo(2 * 9_900);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void streamsShouldNotBeSampled() {
+        SeqValueExtractor.sampling(ElementSampling.fraction(0.5, 42))
+                .extractValues(Stream.from(0), new RecordingValueReceiver());
+    }
+
+    @Test
+    public void extractionShouldStopAfterTheGivenNumberOfViolations() {
+        FailFastElements failFast = FailFastElements.after(2);
+        javax.validation.Configuration<?> configuration = Validation.byDefaultProvider().configure();
+        Validator failFastValidator = configuration
+                .messageInterpolator(failFast.countingViolations(configuration.getDefaultMessageInterpolator()))
+                .addValueExtractor(SeqValueExtractor.failFast(failFast))
+                .buildValidatorFactory()
+                .getValidator();
+        TestBean bean = new TestBean();
+        for (int i = 0; i < 1000; i++) {
+            bean.add("");
+        }
+
+        Set<ConstraintViolation<TestBean>> violations = failFastValidator.validate(bean);
+
+        assertThat(violations).extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("letters[2].<sequence element>", "letters[3].<sequence element>");
+        assertThat(violations).extracting(ConstraintViolation::getMessage).doesNotContainNull();
+        assertThat(failFast.stoppedCount()).isEqualTo(1);
+        assertThat(failFastValidator.validate(new TestBean())).isEmpty();
+        assertThat(failFast.stoppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void failFastExtractionShouldNotEvaluateStreamsBeyondTheLastExtractedElement() {
+        FailFastElements failFast = FailFastElements.after(2);
+        javax.validation.Configuration<?> configuration = Validation.byDefaultProvider().configure();
+        Validator failFastValidator = configuration
+                .messageInterpolator(failFast.countingViolations(configuration.getDefaultMessageInterpolator()))
+                .addValueExtractor(new SeqValueExtractor(ExtractionMode.failFast(failFast)))
+                .buildValidatorFactory()
+                .getValidator();
+        AtomicInteger evaluations = new AtomicInteger();
+        TestBean bean = new TestBean();
+        bean.letters = Stream.continually(() -> {
+            evaluations.incrementAndGet();
+            return "";
+        });
+
+        assertThat(failFastValidator.validate(bean)).hasSize(2);
+        assertThat(evaluations.get()).isEqualTo(2);
+        assertThat(failFast.stoppedCount()).isEqualTo(1);
+    }
+
     private static class TestBean {
         private Seq<@NotBlank String> letters = List.of("a", "b");
 
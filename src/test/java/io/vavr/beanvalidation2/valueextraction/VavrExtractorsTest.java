@@ -0,0 +1,164 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2019 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.beanvalidation2.valueextraction;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.valueextraction.ValueExtractor;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VavrExtractorsTest {
+
+	@Test
+	public void testAllEqualsServiceFile() throws IOException {
+		// given
+		List<String> serviceFile;
+		try (InputStream in = getClass().getResourceAsStream(
+				"/META-INF/services/javax.validation.valueextraction.ValueExtractor")) {
+			serviceFile = List.ofAll(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines()
+					.filter(line -> !line.trim().isEmpty())
+					.map(line -> line.replace('$', '.')));
+		}
+
+		// when
+		List<String> all = VavrExtractors.all().map(extractor -> extractor.getClass().getCanonicalName());
+
+		// then
+		assertThat(all).containsExactlyElementsOf(serviceFile);
+	}
+
+	@Test
+	public void testTuplesUpTo() {
+		// when
+		List<String> tuples = VavrExtractors.tuplesUpTo(2).map(extractor -> extractor.getClass().getCanonicalName());
+
+		// then
+		assertThat(tuples).containsExactly(
+				Tuple1Extractor.FirstExtractor.class.getCanonicalName(),
+				Tuple2Extractor.FirstExtractor.class.getCanonicalName(),
+				Tuple2Extractor.SecondExtractor.class.getCanonicalName());
+		assertThat(VavrExtractors.tuplesUpTo(0)).isEmpty();
+	}
+
+	@Test
+	public void testTuplesUpToRejectsInvalidArity() {
+		assertThatThrownBy(() -> VavrExtractors.tuplesUpTo(9)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> VavrExtractors.tuplesUpTo(-1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testForBeansDiscoversNestedContainers() {
+		// when
+		List<Class<?>> extractors = VavrExtractors.forBeans(TestBean.class).map(ValueExtractor::getClass);
+
+		// then
+		assertThat(extractors).containsExactlyInAnyOrder(
+				SeqValueExtractor.class,
+				Tuple2Extractor.FirstExtractor.class,
+				Tuple2Extractor.SecondExtractor.class,
+				EitherLeftExtractor.class,
+				EitherRightExtractor.class,
+				LazyValueExtractor.class,
+				MapKeyExtractor.class,
+				MapValueExtractor.class);
+	}
+
+	@Test
+	public void testForBeansWithoutContainers() {
+		assertThat(VavrExtractors.forBeans(String.class, Object.class)).isEmpty();
+	}
+
+	@Test
+	public void testForBeansRejectsSupertypesOfContainers() {
+		assertThatThrownBy(() -> VavrExtractors.forBeans(TraversableBean.class))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining(Traversable.class.getName());
+		assertThatThrownBy(() -> VavrExtractors.forBeans(TupleBean.class))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testAddToReplacesServiceLoadedExtractors() {
+		// given
+		Validator validator = VavrExtractors.addTo(Validation.byDefaultProvider().configure(),
+				VavrExtractors.collectionsOnly())
+				.buildValidatorFactory()
+				.getValidator();
+
+		// when
+		Set<ConstraintViolation<NamesBean>> violations = validator.validate(new NamesBean(Vector.of("a", "")));
+
+		// then
+		assertThat(violations).hasSize(1);
+		assertThat(violations.iterator().next().getPropertyPath().toString()).isEqualTo("names[1].<sequence element>");
+	}
+
+	static class TestBean<T extends Lazy<String>> {
+		private Vector<Tuple2<String, Either<String, Integer>>> entries;
+		private T value;
+		private NestedBean[] nested;
+		private static Seq<Tuple2<String, String>> ignored;
+	}
+
+	static class NestedBean {
+		private int count;
+
+		public io.vavr.collection.Map<String, TestBean<?>> getChildren() {
+			return null;
+		}
+	}
+
+	static class TraversableBean {
+		private Traversable<@NotNull String> names;
+	}
+
+	static class TupleBean {
+		private Tuple pair;
+	}
+
+	static class NamesBean {
+		private final Seq<@NotBlank String> names;
+
+		NamesBean(Seq<String> names) {
+			this.names = names;
+		}
+	}
+}